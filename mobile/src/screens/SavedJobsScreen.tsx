@@ -1,5 +1,5 @@
 import { BASE_URL } from "../api";
-import React, { useEffect, useState } from "react";
+import React, { useEffect, useRef, useState } from "react";
 import { View, Text, FlatList, TouchableOpacity, SafeAreaView, Platform, Linking, Alert } from "react-native";
 import JobCard from "../components/JobCard";
 import styles from "../styles/SearchStyles";
@@ -8,13 +8,33 @@ export default function SavedJobsScreen() {
   const [jobs, setJobs] = useState<any[]>([]);
   const [viewType, setViewType] = useState<"saved" | "applied">("saved");
   const [loading, setLoading] = useState(false);
+  // Last list and ETag per tab: the backend answers 304 with no body while nothing has changed
+  const cache = useRef<Record<string, { etag: string; jobs: any[] }>>({});
 
   const fetchJobs = async () => {
     setLoading(true);
     try {
-      const res = await fetch(`${BASE_URL}/api/jobs/${viewType}`);
-      const json = await res.json();
-      setJobs(json);
+      const cached = cache.current[viewType];
+      const res = await fetch(`${BASE_URL}/api/jobs/${viewType}`, {
+        headers: cached ? { "If-None-Match": cached.etag } : {},
+      });
+      if (res.status === 304 && cached) {
+        setJobs(cached.jobs);
+        return;
+      }
+      if (!res.ok) throw new Error(`HTTP ${res.status}`);
+      const etag = res.headers.get("ETag");
+      // The list comes a page at a time; follow X-Next-Cursor until the last page
+      const all: any[] = await res.json();
+      let cursor = res.headers.get("X-Next-Cursor");
+      while (cursor) {
+        const next = await fetch(`${BASE_URL}/api/jobs/${viewType}?cursor=${encodeURIComponent(cursor)}`);
+        if (!next.ok) throw new Error(`HTTP ${next.status}`);
+        all.push(...(await next.json()));
+        cursor = next.headers.get("X-Next-Cursor");
+      }
+      if (etag) cache.current[viewType] = { etag, jobs: all };
+      setJobs(all);
     } catch (err) {
       console.error("Error fetching jobs:", err);
       setJobs([]);
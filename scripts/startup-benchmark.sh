@@ -0,0 +1,97 @@
+#!/usr/bin/env bash
+# Compares cold start of the deployable variants on this machine:
+#   jar     java -jar (what dockerfile runs)
+#   cds     extracted jar + AppCDS archive (what dockerfile.cds runs)
+#   native  GraalVM executable, if target/jobtracker exists (./mvnw -Pnative native:compile)
+#
+# For each variant it starts the app RUNS times on a fresh SQLite file and records
+#   ready_ms  launch until the first GET /api/jobs is answered
+#   boot_s    Spring's own "Started ... in N seconds"
+#   rss_mb    resident memory right after that first request
+# and prints the median of each.
+#
+# Usage: scripts/startup-benchmark.sh [variant...]     (default: jar cds native)
+#        RUNS=5 PORT=18181 scripts/startup-benchmark.sh jar cds
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${RUNS:-3}
+PORT=${PORT:-18181}
+WORK=target/startup
+VARIANTS=("${@:-jar cds native}")
+read -r -a VARIANTS <<< "${VARIANTS[*]}"
+
+jar_file() { ls target/jobtracker-*.jar 2>/dev/null | grep -v plain | head -1; }
+
+if [[ -z "$(jar_file)" ]]; then
+    ./mvnw -B -q -DskipTests package
+fi
+JAR=$(jar_file)
+mkdir -p "$WORK"
+
+# Same steps as dockerfile.cds: extract, then a training run that exits once the context is refreshed
+prepare_cds() {
+    rm -rf "$WORK/cds"
+    java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/cds" >/dev/null
+    (cd "$WORK/cds" && JSEARCH_API_KEY=training java -XX:ArchiveClassesAtExit=application.jsa \
+        -Dspring.context.exit=onRefresh -Dspring.datasource.url=jdbc:sqlite:training.db \
+        -jar "$(basename "$JAR")" >training.log 2>&1 && rm -f training.db*)
+}
+
+command_for() {
+    local db=$1
+    local args=(--server.port="$PORT" --spring.datasource.url="jdbc:sqlite:$db" --spring.jpa.show-sql=false)
+    case $2 in
+        jar)    echo java -jar "$JAR" "${args[@]}" ;;
+        cds)    echo java -XX:SharedArchiveFile="$WORK/cds/application.jsa" -jar "$WORK/cds/$(basename "$JAR")" "${args[@]}" ;;
+        native) echo target/jobtracker "${args[@]}" ;;
+    esac
+}
+
+median() { sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'; }
+
+now_ms() { date +%s%3N; }
+
+run_once() {
+    local variant=$1 db="$WORK/$1.db" log="$WORK/$1.log"
+    rm -f "$db"*
+    local start pid
+    start=$(now_ms)
+    JSEARCH_API_KEY=${JSEARCH_API_KEY:-benchmark} $(command_for "$db" "$variant") >"$log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "http://localhost:$PORT/api/jobs"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$variant exited during startup, see $log" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    local ready=$(( $(now_ms) - start ))
+    local rss_kb
+    rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')
+    local boot
+    boot=$(grep -oE 'Started [A-Za-z]+ in [0-9.]+ seconds' "$log" | grep -oE '[0-9.]+' | head -1)
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    rm -f "$db"*
+    echo "$ready ${boot:-0} $(( rss_kb / 1024 ))"
+}
+
+printf '%-8s %10s %8s %8s\n' variant ready_ms boot_s rss_mb
+for variant in "${VARIANTS[@]}"; do
+    case $variant in
+        native) [[ -x target/jobtracker ]] || { printf '%-8s %s\n' native "skipped (no target/jobtracker)"; continue; } ;;
+        cds)    prepare_cds ;;
+        jar)    ;;
+        *)      echo "unknown variant: $variant" >&2; exit 2 ;;
+    esac
+
+    results=()
+    for _ in $(seq "$RUNS"); do
+        results+=("$(run_once "$variant")")
+    done
+    ready=$(printf '%s\n' "${results[@]}" | awk '{ print $1 }' | median)
+    boot=$(printf '%s\n' "${results[@]}" | awk '{ print $2 }' | median)
+    rss=$(printf '%s\n' "${results[@]}" | awk '{ print $3 }' | median)
+    printf '%-8s %10s %8s %8s\n' "$variant" "$ready" "$boot" "$rss"
+done
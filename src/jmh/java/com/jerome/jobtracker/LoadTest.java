@@ -0,0 +1,324 @@
+package com.jerome.jobtracker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jerome.jobtracker.service.JsearchStubServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Offline load test: a mix of /external/search2, /save, /apply, GET /api/jobs and PUT /{id}
+ * driven by {@code loadtest.users} concurrent clients, each sending its next request as soon as
+ * the last one returns. Reports throughput and p50/p95/p99 latency per endpoint.
+ * <p>
+ * By default it starts a {@link JsearchStubServer} and the app itself (random port, throwaway
+ * SQLite file, rate limiter opened up) in this JVM; -Dloadtest.app-args are passed to the app,
+ * e.g. -Dloadtest.app-args=--spring.profiles.active=local,perf. With -Dloadtest.target=http://host:port it drives an
+ * already running instance instead (start the stub separately and set external.jsearch.base-url).
+ * <p>
+ * 409s from /save and /apply are expected outcomes of the mix, not errors. Set
+ * -Dloadtest.max-p99-ms and/or -Dloadtest.max-error-rate to fail the run on a regression.
+ * <pre>
+ * ./mvnw -Pbench test-compile exec:java -Dexec.mainClass=com.jerome.jobtracker.LoadTest -Dexec.classpathScope=test \
+ *     -Dloadtest.users=32 -Dloadtest.duration=60s -Dstub.latency=300ms -Dstub.error-rate=0.05
+ * </pre>
+ */
+public final class LoadTest {
+
+    enum Op { SEARCH2, LIST, SAVE, APPLY, UPDATE }
+
+    private static final String[] KEYWORDS = {"java", "python", "react", "devops", "data engineer", "golang"};
+    private static final String[] LOCATIONS = {"Seattle", "Austin", "New York", ""};
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String target;
+    private final int users;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<Op, Integer> mix;
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final AtomicLong nextUrl = new AtomicLong();
+    private final AtomicLong catalogAnswers = new AtomicLong();
+    private final List<Long> ids = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> savedUrls = Collections.synchronizedList(new ArrayList<>());
+
+    private LoadTest(String target, int users, Duration warmup, Duration duration, Map<Op, Integer> mix) {
+        this.target = target;
+        this.users = users;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 16);
+        Duration warmup = DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s"));
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "30s"));
+        Map<Op, Integer> mix = parseMix(System.getProperty("loadtest.mix", "search2:40,list:25,save:15,apply:10,update:10"));
+
+        String target = System.getProperty("loadtest.target");
+        if (target != null) {
+            new LoadTest(target, users, warmup, duration, mix).run();
+            return;
+        }
+
+        Path dbFile = Files.createTempFile("loadtest", ".db");
+        try (JsearchStubServer stub = JsearchStubServer.fromSystemProperties()) {
+            List<String> appArgs = new ArrayList<>(List.of(
+                    "--server.port=0",
+                    "--spring.datasource.url=jdbc:sqlite:" + dbFile,
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.root=WARN",
+                    // Failed requests are counted in the report; don't also log a stack trace for each
+                    "--logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=OFF",
+                    "--logging.level.org.apache.catalina.core=OFF",
+                    "--external.jsearch.base-url=" + stub.baseUrl(),
+                    "--external.jsearch.key=loadtest",
+                    "--external.jsearch.rate-limit.limit-for-period=1000000",
+                    "--jobtracker.saved-search.refresh.enabled=false"));
+            String extraArgs = System.getProperty("loadtest.app-args", "").trim();
+            if (!extraArgs.isEmpty()) {
+                appArgs.addAll(Arrays.asList(extraArgs.split("\\s+")));
+            }
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JobTrackerApplication.class)
+                    .run(appArgs.toArray(String[]::new))) {
+                String port = context.getEnvironment().getProperty("local.server.port");
+                System.out.println("Profiles: " + String.join(",", context.getEnvironment().getActiveProfiles())
+                        + ", SQLite writer: " + context.getEnvironment().getProperty("jobtracker.sqlite.writer.enabled", "false"));
+                System.out.println("JSearch stub: " + stub.describe());
+                new LoadTest("http://localhost:" + port, users, warmup, duration, mix).run();
+                System.out.printf("JSearch stub served %d requests, %d failed on purpose%n", stub.requests(), stub.errors());
+            }
+        } finally {
+            for (String suffix : List.of("", "-wal", "-shm")) {
+                Files.deleteIfExists(Path.of(dbFile + suffix));
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        System.out.printf("%d users against %s: %s warm-up, %s measured, mix %s%n",
+                users, target, warmup, duration, mix);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        ExecutorService pool = Executors.newFixedThreadPool(users);
+        List<Future<Map<Op, Samples>>> workers = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            workers.add(pool.submit(() -> work(measureFrom, end)));
+        }
+        Map<Op, Samples> total = new EnumMap<>(Op.class);
+        for (Future<Map<Op, Samples>> worker : workers) {
+            worker.get().forEach((op, samples) -> total.computeIfAbsent(op, o -> new Samples()).addAll(samples));
+        }
+        pool.shutdown();
+
+        report(total, duration.toNanos() / 1e9);
+    }
+
+    private Map<Op, Samples> work(long measureFrom, long end) {
+        Map<Op, Samples> samples = new EnumMap<>(Op.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Op op = pick(random);
+            boolean ok;
+            try {
+                ok = call(op, random);
+            } catch (Exception e) {
+                ok = false;
+            }
+            long elapsed = System.nanoTime() - now;
+            if (now >= measureFrom) {
+                samples.computeIfAbsent(op, o -> new Samples()).add(elapsed, ok);
+            }
+        }
+        return samples;
+    }
+
+    private Op pick(ThreadLocalRandom random) {
+        int weight = random.nextInt(mix.values().stream().mapToInt(Integer::intValue).sum());
+        for (Map.Entry<Op, Integer> entry : mix.entrySet()) {
+            weight -= entry.getValue();
+            if (weight < 0) return entry.getKey();
+        }
+        throw new IllegalStateException();
+    }
+
+    private boolean call(Op op, ThreadLocalRandom random) throws Exception {
+        switch (op) {
+            case SEARCH2 -> {
+                String location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+                HttpResponse<byte[]> response = send(get("/api/jobs/external/search2?keyword="
+                        + encode(KEYWORDS[random.nextInt(KEYWORDS.length)])
+                        + (location.isEmpty() ? "" : "&location=" + encode(location))
+                        + "&page=" + (1 + random.nextInt(3))
+                        + (random.nextInt(5) == 0 ? "&remote=true" : "")));
+                if ("catalog".equals(response.headers().firstValue("X-Results-Source").orElse(null))) {
+                    catalogAnswers.incrementAndGet();
+                }
+                return response.statusCode() < 400;
+            }
+            case LIST -> {
+                return send(get("/api/jobs?limit=50")).statusCode() < 400;
+            }
+            case SAVE -> {
+                String url = "https://jobs.example.com/loadtest/" + nextUrl.incrementAndGet();
+                HttpResponse<byte[]> response = send(post("/api/jobs/save", job(url)));
+                remember(response, url);
+                return response.statusCode() < 400 || response.statusCode() == 409;
+            }
+            case APPLY -> {
+                // Mostly new postings; sometimes one saved earlier, which /apply promotes (or 409s if already applied)
+                String url = random.nextInt(3) == 0 && !savedUrls.isEmpty()
+                        ? savedUrls.get(random.nextInt(savedUrls.size()))
+                        : "https://jobs.example.com/loadtest/" + nextUrl.incrementAndGet();
+                HttpResponse<byte[]> response = send(post("/api/jobs/apply", job(url)));
+                remember(response, null);
+                return response.statusCode() < 400 || response.statusCode() == 409;
+            }
+            case UPDATE -> {
+                if (ids.isEmpty()) return call(Op.SAVE, random);
+                long id = ids.get(random.nextInt(ids.size()));
+                String body = MAPPER.writeValueAsString(Map.of(
+                        "company", "Acme " + random.nextInt(100),
+                        "position", "Software Engineer",
+                        "status", random.nextBoolean() ? "APPLIED" : "SAVED",
+                        "notes", "Updated by load test"));
+                return send(HttpRequest.newBuilder(URI.create(target + "/api/jobs/" + id))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(body))
+                        .build()).statusCode() < 400;
+            }
+        }
+        throw new IllegalStateException("Unknown op " + op);
+    }
+
+    private void remember(HttpResponse<byte[]> response, String savedUrl) throws Exception {
+        if (response.statusCode() >= 300) return;
+        JsonNode job = MAPPER.readTree(response.body());
+        if (ids.size() < 100_000) ids.add(job.path("id").asLong());
+        if (savedUrl != null && savedUrls.size() < 100_000) savedUrls.add(savedUrl);
+    }
+
+    private static String job(String url) throws Exception {
+        return MAPPER.writeValueAsString(Map.of(
+                "position", "Software Engineer", "company", "Acme", "location", "Seattle, WA, US",
+                "applyUrl", url, "source", "LOADTEST"));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(target + path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(target + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private void report(Map<Op, Samples> results, double seconds) {
+        System.out.printf("%n%-8s %9s %8s %9s %9s %9s %9s%n", "op", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        Samples all = new Samples();
+        results.forEach((op, samples) -> {
+            print(op.name().toLowerCase(Locale.ROOT), samples, seconds);
+            all.addAll(samples);
+        });
+        print("total", all, seconds);
+        Samples search = results.get(Op.SEARCH2);
+        if (search != null && search.size > 0) {
+            System.out.printf("search2 answered from the local catalog: %.0f%%%n", 100.0 * catalogAnswers.get() / search.size);
+        }
+
+        String maxP99 = System.getProperty("loadtest.max-p99-ms");
+        if (maxP99 != null && all.percentile(0.99) / 1e6 > Double.parseDouble(maxP99)) {
+            throw new IllegalStateException(String.format("p99 %.1f ms is over the %s ms limit", all.percentile(0.99) / 1e6, maxP99));
+        }
+        String maxErrorRate = System.getProperty("loadtest.max-error-rate");
+        if (maxErrorRate != null && all.size > 0 && (double) all.errors / all.size > Double.parseDouble(maxErrorRate)) {
+            throw new IllegalStateException(String.format("error rate %.3f is over the %s limit", (double) all.errors / all.size, maxErrorRate));
+        }
+    }
+
+    private static void print(String name, Samples samples, double seconds) {
+        System.out.printf("%-8s %9d %8d %9.1f %9.1f %9.1f %9.1f%n", name, samples.size, samples.errors, samples.size / seconds,
+                samples.percentile(0.50) / 1e6, samples.percentile(0.95) / 1e6, samples.percentile(0.99) / 1e6);
+    }
+
+    // "search2:40,list:25,..." -> weights in declaration order
+    private static Map<Op, Integer> parseMix(String spec) {
+        Map<Op, Integer> mix = new EnumMap<>(Op.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split(":");
+            mix.put(Op.valueOf(kv[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(kv[1].trim()));
+        }
+        return mix;
+    }
+
+    // Latencies in nanoseconds; one instance per worker thread, merged at the end
+    private static final class Samples {
+
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+        private boolean sorted;
+
+        void add(long nanos, boolean ok) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = nanos;
+            if (!ok) errors++;
+            sorted = false;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i], true);
+            }
+            errors += other.errors;
+        }
+
+        // Nearest rank
+        long percentile(double p) {
+            if (size == 0) return 0;
+            if (!sorted) {
+                Arrays.sort(values, 0, size);
+                sorted = true;
+            }
+            return values[(int) Math.max(0, Math.ceil(p * size) - 1)];
+        }
+    }
+}
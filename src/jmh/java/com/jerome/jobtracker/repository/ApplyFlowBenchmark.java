@@ -0,0 +1,126 @@
+package com.jerome.jobtracker.repository;
+
+import com.jerome.jobtracker.JobTrackerApplication;
+import com.jerome.jobtracker.controller.JobApplicationController;
+import com.jerome.jobtracker.dto.ApplyJobRequest;
+import com.jerome.jobtracker.dto.BatchItemResult;
+import com.jerome.jobtracker.model.ApplyUrlKey;
+import com.jerome.jobtracker.model.JobApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The dedup-then-save flow of /apply, /save and /save/batch end to end: controller, Spring Data,
+ * Hibernate and the SQLite file (including the FTS triggers), against a table that already holds
+ * 10k or 100k applications. The controller methods are called directly on a non-web context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ApplyFlowBenchmark {
+
+    private static final int BATCH = 50;
+
+    @Param({"10000", "100000"})
+    int rows;
+
+    private Path dbFile;
+    private ConfigurableApplicationContext context;
+    private JobApplicationController controller;
+    private long nextUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dbFile = Files.createTempFile("apply-bench", ".db");
+        context = new SpringApplicationBuilder(JobTrackerApplication.class)
+                .web(WebApplicationType.NONE)
+                // Command-line args, so they win over application-local.properties
+                .run("--spring.datasource.url=jdbc:sqlite:" + dbFile,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        controller = context.getBean(JobApplicationController.class);
+
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            String url = url(i);
+            batch.add(new Object[]{url, ApplyUrlKey.of(url), "Company " + (i % 500), "Software Engineer " + i,
+                    i % 3 == 0 ? "APPLIED" : "SAVED"});
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "insert into job_application (apply_url, apply_url_key, company, position, status) values (?, ?, ?, ?, ?)",
+                batch);
+        nextUrl = rows;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        Files.deleteIfExists(dbFile);
+    }
+
+    // Dedup miss: two indexed lookups, then an insert
+    @Benchmark
+    public JobApplication applyNew() {
+        return controller.applyForExternalJob(request(url(nextUrl++)));
+    }
+
+    // Dedup hit on an already-applied posting: rejected with 409 before any write
+    @Benchmark
+    public Object applyDuplicate() {
+        int i = ThreadLocalRandom.current().nextInt(rows / 3) * 3;
+        try {
+            return controller.applyForExternalJob(request(url(i)));
+        } catch (ResponseStatusException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public JobApplication saveNew() {
+        return controller.saveExternalJob(request(url(nextUrl++)));
+    }
+
+    // One op = 50 new postings through /save/batch
+    @Benchmark
+    public List<BatchItemResult> saveBatch() {
+        List<ApplyJobRequest> requests = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            requests.add(request(url(nextUrl++)));
+        }
+        return controller.saveExternalJobs(requests);
+    }
+
+    private static ApplyJobRequest request(String url) {
+        return new ApplyJobRequest("Software Engineer", "Acme", "Seattle, WA, US", url, null, "JSEARCH");
+    }
+
+    private static String url(long i) {
+        return "https://jobs.example.com/apply/" + i + "?ref=jsearch";
+    }
+}
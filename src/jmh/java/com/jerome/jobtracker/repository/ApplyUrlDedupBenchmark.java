@@ -0,0 +1,111 @@
+package com.jerome.jobtracker.repository;
+
+import com.jerome.jobtracker.model.ApplyUrlKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duplicate-check latency on a SQLite job_application table of 10k / 100k / 1M rows:
+ * the old lower(apply_url) = lower(?) scan vs. the indexed apply_url_key lookup.
+ * Each probe is for a random URL that is present in the table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class ApplyUrlDedupBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int rows;
+
+    private Path dbFile;
+    private Connection connection;
+    private PreparedStatement byLowerUrl;
+    private PreparedStatement byUrlKey;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dbFile = Files.createTempFile("dedup-bench", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile);
+        try (Statement st = connection.createStatement()) {
+            st.execute("create table job_application (id integer, applied_date date, apply_url varchar(1000),"
+                    + " apply_url_key varchar(64), company varchar(255), location varchar(255), notes varchar(1000),"
+                    + " position varchar(255), source varchar(255), status varchar(255), primary key (id))");
+            st.execute("create unique index ux_job_application_url_key_status on job_application (apply_url_key, status)");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into job_application (apply_url, apply_url_key, company, position, status) values (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                String url = url(i);
+                insert.setString(1, url);
+                insert.setString(2, ApplyUrlKey.of(url));
+                insert.setString(3, "Company " + (i % 500));
+                insert.setString(4, "Software Engineer " + i);
+                insert.setString(5, i % 3 == 0 ? "APPLIED" : "SAVED");
+                insert.addBatch();
+                if (i % 10_000 == 9_999) insert.executeBatch();
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        byLowerUrl = connection.prepareStatement(
+                "select 1 from job_application where lower(apply_url) = lower(?) and lower(status) = lower(?) limit 1");
+        byUrlKey = connection.prepareStatement(
+                "select 1 from job_application where apply_url_key = ? and lower(status) = lower(?) limit 1");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.close();
+        Files.deleteIfExists(dbFile);
+    }
+
+    @Benchmark
+    public boolean lowerUrlScan() throws Exception {
+        byLowerUrl.setString(1, url(ThreadLocalRandom.current().nextInt(rows)).toUpperCase());
+        byLowerUrl.setString(2, "SAVED");
+        try (ResultSet rs = byLowerUrl.executeQuery()) {
+            return rs.next();
+        }
+    }
+
+    @Benchmark
+    public boolean urlKeyLookup() throws Exception {
+        byUrlKey.setString(1, ApplyUrlKey.of(url(ThreadLocalRandom.current().nextInt(rows)).toUpperCase()));
+        byUrlKey.setString(2, "SAVED");
+        try (ResultSet rs = byUrlKey.executeQuery()) {
+            return rs.next();
+        }
+    }
+
+    private static String url(int i) {
+        return "https://jobs.example.com/postings/" + i + "?utm_source=google_jobs_apply&lang=en";
+    }
+}
@@ -0,0 +1,137 @@
+package com.jerome.jobtracker.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search latency on large job_application tables: the old per-field LIKE '%x%' queries
+ * (/search/company, /search/position) vs. one FTS5 MATCH across all four text columns,
+ * top 50 results each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class JobSearchBenchmark {
+
+    private static final String[] COMPANIES = {"Google", "Microsoft", "Amazon", "Boeing", "Expedia", "Zillow",
+            "Tableau", "Nordstrom", "Starbucks", "T-Mobile", "Costco", "Redfin", "Smartsheet", "Avalara", "Qualtrics"};
+    private static final String[] POSITIONS = {"Software Engineer", "Backend Developer", "Data Analyst",
+            "Site Reliability Engineer", "Java Developer", "Frontend Engineer", "Cloud Support Associate"};
+    private static final String[] CITIES = {"Seattle, WA, US", "Redmond, WA, US", "Bellevue, WA, US", "Remote, US"};
+
+    @Param({"10000", "100000", "1000000"})
+    int rows;
+
+    private Path dbFile;
+    private Connection connection;
+    private PreparedStatement likeCompany;
+    private PreparedStatement likePosition;
+    private PreparedStatement ftsMatch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dbFile = Files.createTempFile("search-bench", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile);
+        try (Statement st = connection.createStatement()) {
+            st.execute("create table job_application (id integer, applied_date date, apply_url varchar(1000),"
+                    + " company varchar(255), location varchar(255), notes varchar(1000),"
+                    + " position varchar(255), source varchar(255), status varchar(255), primary key (id))");
+            st.execute("create virtual table job_application_fts using fts5(company, position, location, notes,"
+                    + " content='job_application', content_rowid='id',"
+                    + " tokenize='unicode61 remove_diacritics 2', prefix='2 3')");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into job_application (company, position, location, notes, status) values (?, ?, ?, ?, ?)")) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < rows; i++) {
+                insert.setString(1, COMPANIES[random.nextInt(COMPANIES.length)] + " " + (i % 1000));
+                insert.setString(2, POSITIONS[random.nextInt(POSITIONS.length)]);
+                insert.setString(3, CITIES[random.nextInt(CITIES.length)]);
+                insert.setString(4, i % 4 == 0 ? "Recruiter call scheduled, referral from a former teammate" : null);
+                insert.setString(5, i % 3 == 0 ? "APPLIED" : "SAVED");
+                insert.addBatch();
+                if (i % 10_000 == 9_999) insert.executeBatch();
+            }
+            insert.executeBatch();
+        }
+        try (Statement st = connection.createStatement()) {
+            st.execute("insert into job_application_fts (job_application_fts) values ('rebuild')");
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        likeCompany = connection.prepareStatement(
+                "select * from job_application where lower(company) like lower(?) escape '\\' limit 50");
+        likePosition = connection.prepareStatement(
+                "select * from job_application where lower(position) like lower(?) escape '\\' limit 50");
+        ftsMatch = connection.prepareStatement(
+                "select j.* from job_application_fts f join job_application j on j.id = f.rowid"
+                        + " where job_application_fts match ? order by bm25(job_application_fts, 2.0, 3.0, 1.0, 0.5) limit 50");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.close();
+        Files.deleteIfExists(dbFile);
+    }
+
+    // A selective term: only rows of one company whose suffix starts with 99
+    @Benchmark
+    public void likeCompany(Blackhole bh) throws Exception {
+        likeCompany.setString(1, "%zillow 99%");
+        drain(likeCompany, bh);
+    }
+
+    @Benchmark
+    public void likePosition(Blackhole bh) throws Exception {
+        likePosition.setString(1, "%reliability%");
+        drain(likePosition, bh);
+    }
+
+    @Benchmark
+    public void ftsCompany(Blackhole bh) throws Exception {
+        ftsMatch.setString(1, "\"zillow\"* \"99\"*");
+        drain(ftsMatch, bh);
+    }
+
+    @Benchmark
+    public void ftsPosition(Blackhole bh) throws Exception {
+        ftsMatch.setString(1, "\"reliability\"*");
+        drain(ftsMatch, bh);
+    }
+
+    private static void drain(PreparedStatement statement, Blackhole bh) throws Exception {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getLong(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.jerome.jobtracker.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jerome.jobtracker.JobTrackerApplication;
+import com.jerome.jobtracker.service.JobListingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One 1000-row GET /api/jobs response body: the query plus JSON serialization, on a 10k-row table.
+ * read=entity is the old path (managed JobApplication entities via findBy), read=view the
+ * JobApplicationView projection JobListingService now uses; json=reflection is a plain Jackson
+ * mapper, json=blackbird the application's ObjectMapper (see JacksonConfig). All four produce
+ * the same bytes, which setUp checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int PAGE = 1_000;
+
+    @Param({"entity", "view"})
+    String read;
+
+    @Param({"reflection", "blackbird"})
+    String json;
+
+    private Path dbFile;
+    private ConfigurableApplicationContext context;
+    private JobApplicationRepository repository;
+    private JobListingService listing;
+    private ObjectMapper mapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dbFile = Files.createTempFile("read-bench", ".db");
+        context = new SpringApplicationBuilder(JobTrackerApplication.class)
+                .web(WebApplicationType.NONE)
+                // Command-line args, so they win over application-local.properties
+                .run("--spring.datasource.url=jdbc:sqlite:" + dbFile,
+                        "--spring.jpa.show-sql=false",
+                        "--jobtracker.page.max-limit=" + PAGE,
+                        "--logging.level.root=WARN");
+        repository = context.getBean(JobApplicationRepository.class);
+        listing = context.getBean(JobListingService.class);
+        ObjectMapper blackbird = context.getBean(ObjectMapper.class);
+        // Same output settings as Boot's mapper (ISO dates), without the Blackbird module
+        ObjectMapper reflection = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        mapper = json.equals("blackbird") ? blackbird : reflection;
+
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{"Company " + (i % 500), "Software Engineer " + i, i % 3 == 0 ? "APPLIED" : "SAVED",
+                    Date.valueOf(start.plusDays(i % 365)), "Seattle, WA, US",
+                    "https://jobs.example.com/apply/" + i + "?ref=jsearch", "JSEARCH",
+                    "Referred by a former teammate; follow up after the phone screen"});
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "insert into job_application (company, position, status, applied_date, location, apply_url, source, notes)"
+                        + " values (?, ?, ?, ?, ?, ?, ?, ?)",
+                batch);
+
+        byte[] expected = reflection.writeValueAsBytes(entities());
+        if (!Arrays.equals(expected, mapper.writeValueAsBytes(read.equals("view") ? views() : entities()))) {
+            throw new IllegalStateException("read=" + read + ", json=" + json + " serializes differently");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        Files.deleteIfExists(dbFile);
+    }
+
+    // One op = the first page of GET /api/jobs?limit=1000, ready to write to the socket
+    @Benchmark
+    public byte[] firstPage() throws Exception {
+        return mapper.writeValueAsBytes(read.equals("view") ? views() : entities());
+    }
+
+    private List<?> entities() {
+        return repository.findBy(JobApplicationSpecs.all(),
+                q -> q.sortBy(Sort.by(Sort.Order.asc("id"))).limit(PAGE).all());
+    }
+
+    private List<?> views() {
+        return listing.list(JobApplicationSpecs.all(), "id", null, PAGE).items();
+    }
+}
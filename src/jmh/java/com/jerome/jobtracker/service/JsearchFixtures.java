@@ -0,0 +1,147 @@
+package com.jerome.jobtracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JSearch response bodies for benchmarks.
+ * <p>
+ * {@link #load} prefers a recorded response from src/jmh/resources/jsearch/search-{jobs}.json
+ * and otherwise generates one of the same shape: each job carries the bulky fields the real
+ * API returns (description, highlights, apply options) alongside the six we map.
+ * Recordings are made once with {@link #main} and then used offline.
+ */
+final class JsearchFixtures {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // num_pages requested per recording; JSearch returns about 10 jobs per page
+    private static final int[] RECORDED_PAGES = {1, 5, 10};
+
+    private JsearchFixtures() {}
+
+    static byte[] load(int jobs) {
+        try (InputStream recorded = JsearchFixtures.class.getResourceAsStream("/jsearch/search-" + jobs + ".json")) {
+            return recorded != null ? recorded.readAllBytes() : response(jobs);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Records live responses for 10, 50 and 100 jobs into src/jmh/resources/jsearch.
+     * Needs JSEARCH_API_KEY; -Djsearch.query sets the query and -Djsearch.base-url the API. From the project root:
+     * ./mvnw -Pbench test-compile exec:java -Dexec.mainClass=com.jerome.jobtracker.service.JsearchFixtures
+     * -Dexec.classpathScope=test
+     */
+    public static void main(String[] args) throws Exception {
+        String apiKey = System.getenv("JSEARCH_API_KEY");
+        if (apiKey == null || apiKey.isBlank()) {
+            throw new IllegalStateException("Set JSEARCH_API_KEY to record fixtures");
+        }
+        // Program arguments would be the bench profile's JMH arguments, so the query comes from a property
+        String query = System.getProperty("jsearch.query", "java developer seattle");
+        Path dir = Files.createDirectories(Path.of("src/jmh/resources/jsearch"));
+        String baseUrl = System.getProperty("jsearch.base-url", "https://jsearch.p.rapidapi.com");
+        HttpClient client = HttpClient.newHttpClient();
+        for (int numPages : RECORDED_PAGES) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/search?query="
+                            + URLEncoder.encode(query, StandardCharsets.UTF_8) + "&page=1&num_pages=" + numPages))
+                    .header("X-RapidAPI-Key", apiKey)
+                    .header("X-RapidAPI-Host", "jsearch.p.rapidapi.com")
+                    .build();
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("JSearch returned " + response.statusCode());
+            }
+            Files.write(dir.resolve("search-" + numPages * 10 + ".json"), response.body());
+        }
+    }
+
+    static byte[] response(int jobs) {
+        return response("java developer seattle", 1, jobs);
+    }
+
+    /**
+     * A generated body for one query and page: titles carry the query and apply links are
+     * distinct per query and page, so different searches return different postings.
+     */
+    static byte[] response(String query, int page, int jobs) {
+        String urlPrefix = "https://jobs.example.com/apply/" + Integer.toHexString(query.hashCode()) + "-" + page + "-";
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("status", "OK");
+        root.put("request_id", "7c1f8a52-3bbd-4b1f-9b27-5f0d2b4f1e6a");
+        ObjectNode parameters = root.putObject("parameters");
+        parameters.put("query", query);
+        parameters.put("page", page);
+        parameters.put("num_pages", Math.max(1, jobs / 10));
+
+        ArrayNode data = root.putArray("data");
+        for (int i = 0; i < jobs; i++) {
+            ObjectNode job = data.addObject();
+            job.put("job_id", "job-" + i + "-a1b2c3d4e5f6");
+            job.put("employer_name", "Employer " + (i % 37));
+            job.put("employer_logo", "https://logos.example.com/employer-" + (i % 37) + ".png");
+            job.put("employer_website", "https://employer-" + (i % 37) + ".example.com");
+            job.put("job_publisher", "LinkedIn");
+            job.put("job_employment_type", "FULLTIME");
+            job.put("job_title", "Software Engineer " + (i % 5 == 0 ? "II" : "I") + " - " + query);
+            job.put("job_apply_link", urlPrefix + i + "?utm_source=jsearch&utm_medium=api");
+            job.put("job_apply_is_direct", i % 2 == 0);
+            job.put("job_description", description(i));
+            job.put("job_is_remote", i % 3 == 0);
+            job.put("job_posted_at_timestamp", 1_728_000_000L + i * 3600L);
+            job.put("job_posted_at_datetime_utc", "2024-10-04T00:00:00.000Z");
+            job.put("job_city", "Seattle");
+            job.put("job_state", "WA");
+            job.put("job_country", "US");
+            job.put("job_latitude", 47.6062);
+            job.put("job_longitude", -122.3321);
+            job.putNull("job_benefits");
+            job.put("job_google_link", "https://www.google.com/search?q=jobs&ibp=htl;jobs#htidocid=" + i);
+            job.putNull("job_min_salary");
+            job.putNull("job_max_salary");
+            ArrayNode applyOptions = job.putArray("apply_options");
+            for (int o = 0; o < 3; o++) {
+                ObjectNode option = applyOptions.addObject();
+                option.put("publisher", "Publisher " + o);
+                option.put("apply_link", "https://publisher-" + o + ".example.com/jobs/" + i);
+                option.put("is_direct", o == 0);
+            }
+            ObjectNode highlights = job.putObject("job_highlights");
+            ArrayNode qualifications = highlights.putArray("Qualifications");
+            ArrayNode responsibilities = highlights.putArray("Responsibilities");
+            for (int h = 0; h < 8; h++) {
+                qualifications.add("Experience with Java, Spring Boot and relational databases in production (" + h + ")");
+                responsibilities.add("Design, build and operate services that handle millions of requests per day (" + h + ")");
+            }
+        }
+        try {
+            return MAPPER.writeValueAsBytes(root);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String description(int seed) {
+        StringBuilder sb = new StringBuilder(4_000);
+        while (sb.length() < 4_000) {
+            sb.append("We are looking for an engineer to join team ").append(seed)
+              .append(". You will work across the stack, mentor others and own features end to end. ");
+        }
+        return sb.toString();
+    }
+}
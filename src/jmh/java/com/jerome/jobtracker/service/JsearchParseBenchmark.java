@@ -0,0 +1,75 @@
+package com.jerome.jobtracker.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jerome.jobtracker.dto.ExternalJobDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streaming parser vs. the previous String + readTree path, per response.
+ * Run with -prof gc and compare gc.alloc.rate.norm (bytes allocated per request).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsearchParseBenchmark {
+
+    // 10 jobs per JSearch page: numPages = 1, 5, 10
+    @Param({"10", "50", "100"})
+    int jobs;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsearchResponseParser streamingParser = new JsearchResponseParser(objectMapper);
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = JsearchFixtures.load(jobs);
+    }
+
+    @Benchmark
+    public List<ExternalJobDto> streaming() throws Exception {
+        return streamingParser.parse(new ByteArrayInputStream(body));
+    }
+
+    // The pre-streaming path: whole body as a String, then a full JsonNode tree
+    @Benchmark
+    public List<ExternalJobDto> stringAndTree() throws Exception {
+        String text = new String(body, StandardCharsets.UTF_8);
+        JsonNode data = objectMapper.readTree(text).path("data");
+
+        List<ExternalJobDto> results = new ArrayList<>();
+        if (data.isArray()) {
+            for (JsonNode n : data) {
+                String location = Stream.of(n.path("job_city").asText(""), n.path("job_state").asText(""),
+                                n.path("job_country").asText(""))
+                        .filter(s -> s != null && !s.isBlank())
+                        .collect(Collectors.joining(", "));
+                results.add(new ExternalJobDto(n.path("job_title").asText(null), n.path("employer_name").asText(null),
+                        location, n.path("job_apply_link").asText(null)));
+            }
+        }
+        return results;
+    }
+}
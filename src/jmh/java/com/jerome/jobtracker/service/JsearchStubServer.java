@@ -0,0 +1,141 @@
+package com.jerome.jobtracker.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for JSearch's GET /search, for load tests that must not spend RapidAPI quota.
+ * Point the app at it with external.jsearch.base-url=http://localhost:{port}.
+ * <p>
+ * Every response waits latency plus a random 0..latencyJitter, then fails with errorStatus
+ * with probability errorRate, or returns jobsPerPage * num_pages generated jobs
+ * ({@link JsearchFixtures#response(String, int, int)}, about 6 KB each) for the query and page.
+ * <p>
+ * Stand-alone: ./mvnw -Pbench test-compile exec:java -Dexec.mainClass=com.jerome.jobtracker.service.JsearchStubServer
+ * -Dexec.classpathScope=test -Dstub.port=8089 -Dstub.latency=200ms -Dstub.error-rate=0.05
+ */
+public final class JsearchStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Duration latency;
+    private final Duration latencyJitter;
+    private final double errorRate;
+    private final int errorStatus;
+    private final int jobsPerPage;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    public JsearchStubServer(int port, Duration latency, Duration latencyJitter, double errorRate, int errorStatus,
+                             int jobsPerPage) throws IOException {
+        this.latency = latency;
+        this.latencyJitter = latencyJitter;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        this.jobsPerPage = jobsPerPage;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 256);
+        // Latency is simulated by sleeping, so every in-flight request holds a thread
+        this.executor = Executors.newCachedThreadPool();
+        this.server.setExecutor(executor);
+        this.server.createContext("/search", this::search);
+        this.server.start();
+    }
+
+    public static JsearchStubServer fromSystemProperties() throws IOException {
+        return new JsearchStubServer(
+                Integer.getInteger("stub.port", 0),
+                DurationStyle.detectAndParse(System.getProperty("stub.latency", "150ms")),
+                DurationStyle.detectAndParse(System.getProperty("stub.latency-jitter", "100ms")),
+                Double.parseDouble(System.getProperty("stub.error-rate", "0.02")),
+                Integer.getInteger("stub.error-status", 500),
+                Integer.getInteger("stub.jobs-per-page", 10));
+    }
+
+    public static void main(String[] args) throws Exception {
+        JsearchStubServer stub = fromSystemProperties();
+        System.out.println("JSearch stub on " + stub.baseUrl() + " (" + stub.describe() + ")");
+        Thread.currentThread().join();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public String describe() {
+        return "latency " + latency.toMillis() + "+0.." + latencyJitter.toMillis() + " ms, error rate " + errorRate
+                + " (" + errorStatus + "), " + jobsPerPage + " jobs/page";
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long errors() {
+        return errors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void search(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long delay = latency.toMillis() + (latencyJitter.toMillis() > 0 ? random.nextLong(latencyJitter.toMillis()) : 0);
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (random.nextDouble() < errorRate) {
+                errors.incrementAndGet();
+                send(exchange, errorStatus, "{\"message\":\"stubbed failure\"}".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            Map<String, String> params = query(exchange.getRequestURI().getRawQuery());
+            String query = params.getOrDefault("query", "");
+            int page = Integer.parseInt(params.getOrDefault("page", "1"));
+            int numPages = Integer.parseInt(params.getOrDefault("num_pages", "1"));
+            send(exchange, 200, JsearchFixtures.response(query, page, jobsPerPage * numPages));
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) return params;
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+}
@@ -0,0 +1,49 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.model.ExperienceLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning /external/search2 parameters into JSearch queries, per request:
+ * one fully-filtered query, and the whole fallback ladder (q1/q2/q3 plus the
+ * normalization used to drop duplicate tiers).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBuildBenchmark {
+
+    private final String keyword = "  Java Developer ";
+    private final String location = "Seattle, WA";
+    private final String skills = "Java, Spring Boot, PostgreSQL, Kubernetes, AWS";
+
+    @Benchmark
+    public String buildQuery() {
+        return ExternalJobService.buildQuery(keyword, location, ExperienceLevel.ENTRY_LEVEL, skills, true, true, true);
+    }
+
+    // Typical mobile search: keyword + location only, so q1 and q2 collapse into one tier
+    @Benchmark
+    public List<ExternalJobService.Tier> tiersPlain() {
+        return ExternalJobService.tiers(keyword, location, null, null, false, false, false);
+    }
+
+    @Benchmark
+    public List<ExternalJobService.Tier> tiersFiltered() {
+        return ExternalJobService.tiers(keyword, location, ExperienceLevel.NEW_GRAD, skills, true, true, false);
+    }
+}
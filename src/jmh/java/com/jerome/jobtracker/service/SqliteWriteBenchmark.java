@@ -0,0 +1,131 @@
+package com.jerome.jobtracker.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test for concurrent writes against one SQLite file: 16 threads each doing what /save
+ * does (duplicate check, then insert) as fast as they can.
+ * <ul>
+ *   <li>baseline - the default settings: WAL with a 5s busy_timeout, synchronous=FULL, an
+ *   IMMEDIATE transaction per request on the caller's thread</li>
+ *   <li>tuned - the perf profile on top: synchronous=NORMAL, larger cache and mmap, every write
+ *   going through {@link SqliteWriter}</li>
+ * </ul>
+ * "committed" is write throughput and "busy" the rate of SQLITE_BUSY failures, both per second;
+ * busy / (busy + committed) is the share of requests that would have come back as errors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Threads(16)
+@Fork(1)
+public class SqliteWriteBenchmark {
+
+    @Param({"baseline", "tuned"})
+    String config;
+
+    private Path dir;
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SqliteWriter writer;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+        public long committed;
+        public long busy;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            committed = 0;
+            busy = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("write-bench");
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:sqlite:" + dir.resolve("jobs.db"));
+        // Same values as application.properties
+        dataSource.addDataSourceProperty("journal_mode", "WAL");
+        dataSource.addDataSourceProperty("busy_timeout", "5000");
+        boolean tuned = "tuned".equals(config);
+        if (tuned) {
+            // Same values as application-perf.properties
+            dataSource.addDataSourceProperty("synchronous", "NORMAL");
+            dataSource.addDataSourceProperty("cache_size", "-32000");
+            dataSource.addDataSourceProperty("mmap_size", "268435456");
+            dataSource.addDataSourceProperty("temp_store", "MEMORY");
+            dataSource.setMaximumPoolSize(8);
+        }
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table job_application (id integer, applied_date date, apply_url varchar(1000),"
+                + " apply_url_key varchar(64), company varchar(255), location varchar(255), notes varchar(1000),"
+                + " position varchar(255), source varchar(255), status varchar(255), primary key (id))");
+        jdbcTemplate.execute("create unique index ux_job_application_url_key_status on job_application (apply_url_key, status)");
+
+        writer = new SqliteWriter(dataSource, new DataSourceTransactionManager(dataSource), tuned, 64, 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        writer.shutdown();
+        dataSource.close();
+        try (var files = Files.list(dir)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public void save(Outcomes outcomes) {
+        String key = UUID.randomUUID().toString();
+        try {
+            writer.run(() -> {
+                Integer existing = jdbcTemplate.queryForObject(
+                        "select count(*) from job_application where apply_url_key = ? and status = 'SAVED'",
+                        Integer.class, key);
+                if (existing == 0) {
+                    jdbcTemplate.update("insert into job_application (apply_url, apply_url_key, company, position, status)"
+                            + " values (?, ?, 'Acme', 'Software Engineer', 'SAVED')", "https://jobs.example/" + key, key);
+                }
+            });
+            outcomes.committed++;
+        } catch (RuntimeException e) {
+            String message = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            if (!message.contains("SQLITE_BUSY")) {
+                throw e;
+            }
+            outcomes.busy++;
+        }
+    }
+}
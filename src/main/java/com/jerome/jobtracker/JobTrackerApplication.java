@@ -1,20 +1,37 @@
 package com.jerome.jobtracker;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
 
 @SpringBootApplication
+@EnableScheduling
 public class JobTrackerApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(JobTrackerApplication.class, args);
 	}
 
+	// Non-blocking client with a shared keep-alive connection pool; callers get futures back,
+	// so no request thread sits waiting on the upstream round-trip
 	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
+	public HttpClient httpClient(@Value("${external.jsearch.http.connect-timeout:3s}") Duration connectTimeout,
+								 @Value("${external.jsearch.http.threads:8}") int threads) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jsearch-http-");
+		threadFactory.setDaemon(true);
+		return HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_2)
+				.connectTimeout(connectTimeout)
+				.followRedirects(HttpClient.Redirect.NORMAL)
+				.executor(Executors.newFixedThreadPool(threads, threadFactory))
+				.build();
 	}
 
 }
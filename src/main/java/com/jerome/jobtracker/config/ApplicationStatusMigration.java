@@ -0,0 +1,88 @@
+package com.jerome.jobtracker.config;
+
+import com.jerome.jobtracker.model.ApplicationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * One-time migration for rows written while status was free text ("Applied", "interview", null).
+ * Values ApplicationStatus.from understands become that status. Anything else becomes APPLIED
+ * when the row has an appliedDate and SAVED otherwise, with the old value kept in notes.
+ * A row whose posting already has a twin with the new status loses its apply_url_key rather
+ * than failing the unique index, as in ApplyUrlKeyBackfill. Once every row holds a known name
+ * this is a single query at startup.
+ * <p>
+ * Unlike the schema runners this runs before the web server starts (once every singleton,
+ * including the EntityManagerFactory and its ddl-auto update, exists): a request reading a row
+ * with a free-text status would fail to map it to the enum.
+ */
+@Component
+public class ApplicationStatusMigration implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationStatusMigration.class);
+
+    private static final String KNOWN = Arrays.stream(ApplicationStatus.values())
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", "));
+    private static final String BY_DATE = "status = case when applied_date is null then 'SAVED' else 'APPLIED' end";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ApplicationStatusMigration(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<String> legacy = jdbcTemplate.queryForList(
+                "select status from job_application where status is null or status not in (" + KNOWN + ") group by status",
+                String.class);
+        if (legacy.isEmpty()) return;
+
+        Integer migrated = transactionTemplate.execute(tx -> {
+            int rows = 0;
+            for (String value : legacy) {
+                ApplicationStatus status = parse(value);
+                if (status != null) {
+                    rows += migrate("status = ?", "status = ?", status.name(), value);
+                } else if (value == null) {
+                    rows += migrate("status is null", BY_DATE);
+                } else if (value.isBlank()) {
+                    rows += migrate("status = ?", BY_DATE, value);
+                } else {
+                    rows += migrate("status = ?",
+                            BY_DATE + ", notes = trim(coalesce(notes || ' ', '') || '[status: ' || status || ']')", value);
+                }
+            }
+            return rows;
+        });
+        log.info("Migrated {} job applications from free-text status ({} distinct values)", migrated, legacy.size());
+    }
+
+    // setArgs first, then whereArgs, in one array as they appear in the statement
+    private int migrate(String where, String set, Object... args) {
+        // OR IGNORE: a row that would duplicate its twin's (apply_url_key, status) is left for the second pass
+        int updated = jdbcTemplate.update("update or ignore job_application set " + set + " where " + where, args);
+        int unkeyed = jdbcTemplate.update(
+                "update job_application set apply_url_key = null, " + set + " where " + where, args);
+        return updated + unkeyed;
+    }
+
+    private static ApplicationStatus parse(String value) {
+        try {
+            return ApplicationStatus.from(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.jerome.jobtracker.config;
+
+import com.jerome.jobtracker.model.ApplyUrlKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * One-time migration for rows written before apply_url_key existed, and the one place the
+ * (apply_url_key, status) unique index is created: Hibernate can't add unique indexes to SQLite
+ * and ddl-auto=update adds the column but no index to an existing table. The index comes first,
+ * then the key is filled in id order, one transaction per chunk.
+ * <p>
+ * Legacy duplicates, rows whose key+status already belongs to an older row, are kept as they
+ * are and left without a key: they don't take part in dedup (the twin that has the key still
+ * drives it), and JobApplication leaves them unkeyed until their applyUrl is edited. Finishing
+ * records the backfill in schema_migration, so later startups don't rescan them.
+ */
+@Component
+@Order(5)
+public class ApplyUrlKeyBackfill implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplyUrlKeyBackfill.class);
+    private static final int CHUNK = 1000;
+    private static final String INDEX = "ux_job_application_url_key_status";
+    private static final String MIGRATION = "apply_url_key_backfill";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ApplyUrlKeyBackfill(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        jdbcTemplate.execute("create table if not exists schema_migration"
+                + " (name varchar(64) primary key, applied_at timestamp not null)");
+        Integer done = jdbcTemplate.queryForObject(
+                "select count(*) from schema_migration where name = ?", Integer.class, MIGRATION);
+        if (done != null && done > 0) return;
+
+        ensureUniqueIndex();
+
+        long afterId = 0;
+        int keyed = 0;
+        int skipped = 0;
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(
+                    "select id, apply_url from job_application"
+                            + " where apply_url_key is null and apply_url is not null and id > ? order by id limit ?",
+                    (rs, i) -> new Row(rs.getLong("id"), rs.getString("apply_url")),
+                    afterId, CHUNK);
+            if (rows.isEmpty()) break;
+
+            // OR IGNORE: a legacy duplicate fails the unique index quietly instead of aborting the chunk
+            int[][] updated = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(
+                    "update or ignore job_application set apply_url_key = ? where id = ?",
+                    rows, rows.size(), (ps, row) -> {
+                        ps.setString(1, ApplyUrlKey.of(row.applyUrl()));
+                        ps.setLong(2, row.id());
+                    }));
+            for (int[] batch : updated) {
+                for (int count : batch) {
+                    if (count > 0) keyed++; else skipped++;
+                }
+            }
+            afterId = rows.get(rows.size() - 1).id();
+        }
+        if (keyed > 0 || skipped > 0) {
+            log.info("Backfilled apply_url_key for {} job applications ({} legacy duplicates left unkeyed)", keyed, skipped);
+        }
+        jdbcTemplate.update("insert into schema_migration (name, applied_at) values (?, current_timestamp)", MIGRATION);
+    }
+
+    private void ensureUniqueIndex() {
+        Integer present = jdbcTemplate.queryForObject(
+                "select count(*) from sqlite_master where type = 'index' and name = ?", Integer.class, INDEX);
+        if (present != null && present > 0) return;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Keys written before the index existed may collide; keep them on the oldest row only
+            jdbcTemplate.update("update job_application set apply_url_key = null"
+                    + " where apply_url_key is not null and id not in"
+                    + " (select min(id) from job_application where apply_url_key is not null group by apply_url_key, status)");
+            jdbcTemplate.execute("create unique index " + INDEX + " on job_application (apply_url_key, status)");
+        });
+    }
+
+    private record Row(long id, String applyUrl) {}
+}
@@ -0,0 +1,23 @@
+package com.jerome.jobtracker.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+/**
+ * Spring Boot registers every Module bean with the application ObjectMapper. Blackbird replaces
+ * Jackson's reflective getter/setter/constructor calls with generated lambdas, which is most of
+ * the per-field cost when a listing serializes hundreds of rows (see ReadPathBenchmark).
+ */
+@Configuration(proxyBeanMethods = false)
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        // The native image can't define classes at runtime; plain reflection there (see NativeHints)
+        return NativeDetector.inNativeImage() ? new SimpleModule("blackbird-disabled") : new BlackbirdModule();
+    }
+}
@@ -0,0 +1,72 @@
+package com.jerome.jobtracker.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Tables behind JobCatalog: job_catalog holds one row per posting JSearch has ever returned
+ * (keyed by ApplyUrlKey, with first/last seen as epoch millis), and job_catalog_fts is an
+ * FTS5 external-content index over its title, company and location, kept in sync by triggers.
+ */
+@Component
+@Order(2)
+public class JobCatalogSchema implements ApplicationRunner {
+
+    private static final List<String> STATEMENTS = List.of(
+            """
+            create table if not exists job_catalog (
+              id integer primary key,
+              apply_url_key varchar(64) not null unique,
+              apply_url varchar(1000) not null,
+              title varchar(255),
+              company varchar(255),
+              location varchar(255),
+              first_seen integer not null,
+              last_seen integer not null
+            )""",
+            "create index if not exists ix_job_catalog_last_seen on job_catalog (last_seen)",
+            "create virtual table if not exists job_catalog_fts using fts5("
+                    + "title, company, location,"
+                    + " content='job_catalog', content_rowid='id',"
+                    + " tokenize='unicode61 remove_diacritics 2', prefix='2 3')",
+            """
+            create trigger if not exists job_catalog_fts_ai after insert on job_catalog begin
+              insert into job_catalog_fts (rowid, title, company, location)
+              values (new.id, new.title, new.company, new.location);
+            end""",
+            """
+            create trigger if not exists job_catalog_fts_ad after delete on job_catalog begin
+              insert into job_catalog_fts (job_catalog_fts, rowid, title, company, location)
+              values ('delete', old.id, old.title, old.company, old.location);
+            end""",
+            // Re-seeing a posting rewrites its columns; only touch the index when the text actually changed
+            """
+            create trigger if not exists job_catalog_fts_au after update of title, company, location on job_catalog
+            when old.title is not new.title or old.company is not new.company or old.location is not new.location
+            begin
+              insert into job_catalog_fts (job_catalog_fts, rowid, title, company, location)
+              values ('delete', old.id, old.title, old.company, old.location);
+              insert into job_catalog_fts (rowid, title, company, location)
+              values (new.id, new.title, new.company, new.location);
+            end"""
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JobCatalogSchema(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        transactionTemplate.executeWithoutResult(status -> STATEMENTS.forEach(jdbcTemplate::execute));
+    }
+}
@@ -0,0 +1,113 @@
+package com.jerome.jobtracker.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Change tracking behind GET /api/jobs/changes and the list ETags. job_change_seq holds one
+ * counter that every insert, update and delete on job_application bumps. Inserts and updates
+ * stamp the row's change_version with it; deletes leave a tombstone with it. SQLite runs one
+ * write transaction at a time, so versions are handed out in commit order and a client that
+ * has seen version N has seen everything at or below it. Rows written before this existed are
+ * stamped the first time it runs.
+ * <p>
+ * Tombstones carry their deletion time so JobChangesService can prune them after the retention
+ * period; job_change_seq.pruned_through remembers the newest version pruned, below which a
+ * delta would miss deletes.
+ */
+@Component
+@Order(4)
+public class JobChangeLogSchema implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JobChangeLogSchema.class);
+
+    private static final List<String> STATEMENTS = List.of(
+            "create table if not exists job_change_seq (id integer primary key check (id = 1), version integer not null,"
+                    + " pruned_through integer not null default 0)",
+            "insert or ignore into job_change_seq (id, version) values (1, 0)",
+            "create table if not exists job_application_tombstone (id integer primary key, change_version integer not null,"
+                    + " deleted_at integer)",
+            "create index if not exists ix_job_application_tombstone_version on job_application_tombstone (change_version)",
+            "create index if not exists ix_job_application_tombstone_deleted_at on job_application_tombstone (deleted_at)",
+            // An id can come back (POST /api/jobs with an explicit id): the new row replaces the tombstone
+            """
+            create trigger if not exists job_changes_ai after insert on job_application begin
+              update job_change_seq set version = version + 1 where id = 1;
+              update job_application set change_version = (select version from job_change_seq where id = 1) where id = new.id;
+              delete from job_application_tombstone where id = new.id;
+            end""",
+            // The stamp itself is an update; the WHEN clause keeps it from counting as another change
+            """
+            create trigger if not exists job_changes_au after update on job_application
+            when new.change_version is old.change_version
+            begin
+              update job_change_seq set version = version + 1 where id = 1;
+              update job_application set change_version = (select version from job_change_seq where id = 1) where id = new.id;
+            end""",
+            // Recreated every start, so files from before deleted_at existed get this body too
+            "drop trigger if exists job_changes_ad",
+            """
+            create trigger job_changes_ad after delete on job_application begin
+              update job_change_seq set version = version + 1 where id = 1;
+              insert or replace into job_application_tombstone (id, change_version, deleted_at)
+              values (old.id, (select version from job_change_seq where id = 1), cast(strftime('%s', 'now') as integer));
+            end"""
+    );
+
+    // Columns added after the tables first shipped; "create table if not exists" leaves older files without them
+    private static final List<String[]> ADDED_COLUMNS = List.of(
+            new String[]{"job_change_seq", "pruned_through", "integer not null default 0"},
+            new String[]{"job_application_tombstone", "deleted_at", "integer"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JobChangeLogSchema(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer stamped = transactionTemplate.execute(status -> {
+            addMissingColumns();
+            STATEMENTS.forEach(jdbcTemplate::execute);
+            // Tombstones from before deleted_at start their retention period now
+            jdbcTemplate.update("update job_application_tombstone set deleted_at = cast(strftime('%s', 'now') as integer)"
+                    + " where deleted_at is null");
+            Integer unstamped = jdbcTemplate.queryForObject(
+                    "select count(*) from job_application where change_version is null", Integer.class);
+            if (unstamped == null || unstamped == 0) return 0;
+            // Distinct versions (counter + id), so ?since= paging can stop between any two rows
+            int rows = jdbcTemplate.update("update job_application"
+                    + " set change_version = (select version from job_change_seq where id = 1) + id where change_version is null");
+            jdbcTemplate.update("update job_change_seq"
+                    + " set version = max(version, (select max(change_version) from job_application)) where id = 1");
+            return rows;
+        });
+        if (stamped != null && stamped > 0) {
+            log.info("Stamped {} existing job applications with a change version", stamped);
+        }
+    }
+
+    private void addMissingColumns() {
+        for (String[] column : ADDED_COLUMNS) {
+            Integer tables = jdbcTemplate.queryForObject(
+                    "select count(*) from sqlite_master where type = 'table' and name = ?", Integer.class, column[0]);
+            Integer present = jdbcTemplate.queryForObject(
+                    "select count(*) from pragma_table_info(?) where name = ?", Integer.class, column[0], column[1]);
+            if (tables != null && tables > 0 && (present == null || present == 0)) {
+                jdbcTemplate.execute("alter table " + column[0] + " add column " + column[1] + " " + column[2]);
+            }
+        }
+    }
+}
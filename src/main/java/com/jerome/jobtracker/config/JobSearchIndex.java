@@ -0,0 +1,82 @@
+package com.jerome.jobtracker.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * SQLite FTS5 index over company, position, location and notes. It is an external-content
+ * table (the text lives only in job_application) kept in sync by triggers, so every write
+ * path - JPA, batch, bulk SQL - updates it in the same transaction. Built once from the
+ * existing rows the first time it is created.
+ */
+@Component
+@Order(1)
+public class JobSearchIndex implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JobSearchIndex.class);
+
+    private static final List<String> TRIGGERS = List.of(
+            """
+            create trigger if not exists job_application_fts_ai after insert on job_application begin
+              insert into job_application_fts (rowid, company, position, location, notes)
+              values (new.id, new.company, new.position, new.location, new.notes);
+            end""",
+            """
+            create trigger if not exists job_application_fts_ad after delete on job_application begin
+              insert into job_application_fts (job_application_fts, rowid, company, position, location, notes)
+              values ('delete', old.id, old.company, old.position, old.location, old.notes);
+            end""",
+            // A full-row update (PUT, bulk SQL) lists these columns even when only the status changed;
+            // only touch the index when the text actually did. Recreated every start, so older files get the WHEN too
+            "drop trigger if exists job_application_fts_au",
+            """
+            create trigger job_application_fts_au
+            after update of company, position, location, notes on job_application
+            when old.company is not new.company or old.position is not new.position
+              or old.location is not new.location or old.notes is not new.notes
+            begin
+              insert into job_application_fts (job_application_fts, rowid, company, position, location, notes)
+              values ('delete', old.id, old.company, old.position, old.location, old.notes);
+              insert into job_application_fts (rowid, company, position, location, notes)
+              values (new.id, new.company, new.position, new.location, new.notes);
+            end"""
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JobSearchIndex(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer present = jdbcTemplate.queryForObject(
+                "select count(*) from sqlite_master where type = 'table' and name = 'job_application_fts'", Integer.class);
+        boolean created = present == null || present == 0;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // prefix='2 3' keeps short prefix queries ("dev*", "seat*") on the index
+            jdbcTemplate.execute("create virtual table if not exists job_application_fts using fts5("
+                    + "company, position, location, notes,"
+                    + " content='job_application', content_rowid='id',"
+                    + " tokenize='unicode61 remove_diacritics 2', prefix='2 3')");
+            TRIGGERS.forEach(jdbcTemplate::execute);
+            if (created) {
+                jdbcTemplate.execute("insert into job_application_fts (job_application_fts) values ('rebuild')");
+            }
+        });
+        if (created) {
+            log.info("Built full-text index job_application_fts from existing job applications");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.jerome.jobtracker.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Aggregates behind GET /api/jobs/stats: job_status_count (rows per status) and
+ * job_applied_day (rows per appliedDate, stored exactly as job_application stores it). Triggers
+ * keep both in step with every insert, update and delete in the same transaction, whichever
+ * path writes (JPA, batch, bulk SQL). They are built once from the existing rows the first
+ * time they are created.
+ */
+@Component
+@Order(3)
+public class JobStatsSchema implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JobStatsSchema.class);
+
+    private static final List<String> TABLES = List.of(
+            "create table if not exists job_status_count (status varchar(16) primary key, n integer not null)",
+            "create table if not exists job_applied_day (applied_date primary key, n integer not null)"
+    );
+
+    // "insert or ignore ... 0" then "+ 1" rather than an upsert, so a null key is simply skipped
+    private static final List<String> TRIGGERS = List.of(
+            """
+            create trigger if not exists job_stats_ai after insert on job_application begin
+              insert or ignore into job_status_count (status, n) select new.status, 0 where new.status is not null;
+              update job_status_count set n = n + 1 where status = new.status;
+              insert or ignore into job_applied_day (applied_date, n) select new.applied_date, 0 where new.applied_date is not null;
+              update job_applied_day set n = n + 1 where applied_date = new.applied_date;
+            end""",
+            """
+            create trigger if not exists job_stats_ad after delete on job_application begin
+              update job_status_count set n = n - 1 where status = old.status;
+              update job_applied_day set n = n - 1 where applied_date = old.applied_date;
+            end""",
+            """
+            create trigger if not exists job_stats_au after update of status, applied_date on job_application
+            when old.status is not new.status or old.applied_date is not new.applied_date
+            begin
+              update job_status_count set n = n - 1 where status = old.status;
+              insert or ignore into job_status_count (status, n) select new.status, 0 where new.status is not null;
+              update job_status_count set n = n + 1 where status = new.status;
+              update job_applied_day set n = n - 1 where applied_date = old.applied_date;
+              insert or ignore into job_applied_day (applied_date, n) select new.applied_date, 0 where new.applied_date is not null;
+              update job_applied_day set n = n + 1 where applied_date = new.applied_date;
+            end"""
+    );
+
+    private static final List<String> BUILD = List.of(
+            "insert into job_status_count (status, n)"
+                    + " select status, count(*) from job_application where status is not null group by status",
+            "insert into job_applied_day (applied_date, n)"
+                    + " select applied_date, count(*) from job_application where applied_date is not null group by applied_date"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JobStatsSchema(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer present = jdbcTemplate.queryForObject(
+                "select count(*) from sqlite_master where type = 'table' and name = 'job_status_count'", Integer.class);
+        boolean created = present == null || present == 0;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            TABLES.forEach(jdbcTemplate::execute);
+            TRIGGERS.forEach(jdbcTemplate::execute);
+            if (created) {
+                BUILD.forEach(jdbcTemplate::execute);
+            }
+        });
+        if (created) {
+            log.info("Built job statistics from existing job applications");
+        }
+    }
+}
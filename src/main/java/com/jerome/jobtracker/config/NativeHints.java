@@ -0,0 +1,62 @@
+package com.jerome.jobtracker.config;
+
+import com.jerome.jobtracker.dto.ApplyJobRequest;
+import com.jerome.jobtracker.dto.BatchItemResult;
+import com.jerome.jobtracker.dto.BulkJobRequest;
+import com.jerome.jobtracker.dto.BulkResult;
+import com.jerome.jobtracker.dto.ExternalJobDto;
+import com.jerome.jobtracker.dto.ExternalJobPage;
+import com.jerome.jobtracker.dto.ExternalJobResults;
+import com.jerome.jobtracker.dto.ImportResult;
+import com.jerome.jobtracker.dto.JobApplicationView;
+import com.jerome.jobtracker.dto.JobChanges;
+import com.jerome.jobtracker.dto.JobStats;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.model.SavedSearch;
+import com.jerome.jobtracker.model.SavedSearchHit;
+import org.hibernate.community.dialect.SQLiteDialect;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reflection hints for the native image (-Pnative). Ignored on the JVM.
+ * <p>
+ * Jackson binds the entity and DTOs reflectively; some only appear behind CompletableFuture,
+ * ResponseEntity or emitter payloads where AOT can't infer them, so they are listed here.
+ * JSearch responses need nothing: JsearchResponseParser streams them by field name.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHints.Registrar.class)
+@RegisterReflectionForBinding({
+        JobApplication.class,
+        SavedSearch.class,
+        SavedSearchHit.class,
+        ApplyJobRequest.class,
+        BatchItemResult.class,
+        BulkJobRequest.class,
+        BulkResult.class,
+        ExternalJobDto.class,
+        ExternalJobPage.class,
+        ExternalJobResults.class,
+        JobStats.class,
+        JobChanges.class,
+        JobApplicationView.class,
+        ImportResult.class,
+        ApplicationStatus.class
+})
+public class NativeHints {
+
+    static class Registrar implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Named in spring.jpa.database-platform and instantiated by Hibernate by class name
+            hints.reflection().registerType(SQLiteDialect.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.jerome.jobtracker.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * ddl-auto=update creates the @Index declarations on JobApplication only when it creates the
+ * table, never on an existing one. This brings existing SQLite files up to the same indexes.
+ */
+@Component
+@Order(0)
+public class SchemaIndexes implements ApplicationRunner {
+
+    private static final List<String> INDEXES = List.of(
+            "create index if not exists ix_job_application_applied_date_id on job_application (applied_date, id)",
+            "create index if not exists ix_job_application_status_applied_date on job_application (status, applied_date)",
+            "create index if not exists ix_job_application_change_version on job_application (change_version)",
+            // Hibernate emits unique indexes as "alter table ... add constraint", which SQLite rejects
+            "create unique index if not exists ux_saved_search_hit_search_url_key on saved_search_hit (saved_search_id, apply_url_key)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchemaIndexes(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        INDEXES.forEach(jdbcTemplate::execute);
+    }
+}
@@ -15,7 +15,9 @@ public class WebConfig {
             public void addCorsMappings(CorsRegistry registry) {
                 registry.addMapping("/**")
                         .allowedOrigins("*") // allow all origins for now
-                        .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS");
+                        .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
+                        // let browser clients read the paging cursor, search metadata and list ETags
+                        .exposedHeaders("ETag", "X-Next-Cursor", "X-Results-Stale", "X-Results-Source");
             }
         };
     }
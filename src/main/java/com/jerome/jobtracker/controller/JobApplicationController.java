@@ -1,18 +1,62 @@
 package com.jerome.jobtracker.controller;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.jerome.jobtracker.dto.ApplyJobRequest;
+import com.jerome.jobtracker.dto.BatchItemResult;
+import com.jerome.jobtracker.dto.BulkJobRequest;
+import com.jerome.jobtracker.dto.BulkResult;
 import com.jerome.jobtracker.dto.ExternalJobDto;
+import com.jerome.jobtracker.dto.ExternalJobResults;
+import com.jerome.jobtracker.dto.ImportResult;
+import com.jerome.jobtracker.dto.JobApplicationView;
+import com.jerome.jobtracker.dto.JobChanges;
+import com.jerome.jobtracker.dto.JobStats;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.ApplyUrlKey;
 import com.jerome.jobtracker.model.ExperienceLevel;
 import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.model.SearchMode;
 import com.jerome.jobtracker.repository.JobApplicationRepository;
+import com.jerome.jobtracker.repository.JobApplicationSpecs;
 import com.jerome.jobtracker.service.ExternalJobService;
+import com.jerome.jobtracker.service.JobBatchService;
+import com.jerome.jobtracker.service.JobChangesService;
+import com.jerome.jobtracker.service.JobListingService;
+import com.jerome.jobtracker.service.JobSearchService;
+import com.jerome.jobtracker.service.JobStatsService;
+import com.jerome.jobtracker.service.JobTransferService;
+import com.jerome.jobtracker.service.JobUpdateService;
+import com.jerome.jobtracker.service.JsearchException;
+import com.jerome.jobtracker.service.SqliteWriter;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.SQLiteException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -20,20 +64,53 @@ public class JobApplicationController {
 
     private final JobApplicationRepository repository;
     private final ExternalJobService externalJobService;
+    private final JobBatchService jobBatchService;
+    private final JobListingService jobListingService;
+    private final JobSearchService jobSearchService;
+    private final JobStatsService jobStatsService;
+    private final JobChangesService jobChangesService;
+    private final JobTransferService jobTransferService;
+    private final JobUpdateService jobUpdateService;
+    private final SqliteWriter writer;
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    // How SQLite names the ux_job_application_url_key_status columns when the index rejects a row
+    private static final String DUPLICATE_POSTING = "job_application.apply_url_key, job_application.status";
+    // "true" when JSearch was unavailable and the results are the last good ones for the query
+    static final String STALE_HEADER = "X-Results-Stale";
+    // "catalog" when the local job catalog answered without calling JSearch, otherwise "jsearch"
+    static final String SOURCE_HEADER = "X-Results-Source";
 
     @Autowired
-    public JobApplicationController(JobApplicationRepository repository, ExternalJobService externalJobService) {
+    public JobApplicationController(JobApplicationRepository repository,
+                                    ExternalJobService externalJobService,
+                                    JobBatchService jobBatchService,
+                                    JobListingService jobListingService,
+                                    JobSearchService jobSearchService,
+                                    JobStatsService jobStatsService,
+                                    JobChangesService jobChangesService,
+                                    JobTransferService jobTransferService,
+                                    JobUpdateService jobUpdateService,
+                                    SqliteWriter writer) {
         this.repository = repository;
         this.externalJobService = externalJobService;
+        this.jobBatchService = jobBatchService;
+        this.jobListingService = jobListingService;
+        this.jobSearchService = jobSearchService;
+        this.jobStatsService = jobStatsService;
+        this.jobChangesService = jobChangesService;
+        this.jobTransferService = jobTransferService;
+        this.jobUpdateService = jobUpdateService;
+        this.writer = writer;
     }
 
     @GetMapping("/external/search")
-    public List<ExternalJobDto> searchExternalJobs(@RequestParam String keyword) {
-        return externalJobService.searchJobsFromApi(keyword);
+    public CompletableFuture<ResponseEntity<List<ExternalJobDto>>> searchExternalJobs(@RequestParam String keyword) {
+        return externalJobService.searchJobsFromApi(keyword).thenApply(this::external);
     }
 
     @GetMapping("/external/search2")
-    public List<ExternalJobDto> searchExternalJobsV2(
+    public CompletableFuture<ResponseEntity<List<ExternalJobDto>>> searchExternalJobsV2(
             @RequestParam String keyword,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String experience,   // <-- String now
@@ -42,14 +119,119 @@ public class JobApplicationController {
             @RequestParam(required = false, defaultValue = "false") boolean remote,
             @RequestParam(required = false, defaultValue = "false") boolean hybrid,
             @RequestParam(required = false, defaultValue = "1") int page,
-            @RequestParam(required = false, defaultValue = "1") int numPages
+            @RequestParam(required = false, defaultValue = "1") int numPages,
+            @RequestParam(required = false) String mode,         // "sequential" (default) or "speculative"
+            @RequestParam(required = false) Integer parallelism  // set to fetch numPages as concurrent page requests
     ) {
         ExperienceLevel exp = parseExperience(experience); // normalize
+        if (parallelism != null) {
+            return externalJobService.searchJobsFromApiV2FanOut(
+                    keyword, location, exp, skills, military, remote, hybrid, page, numPages, parseMode(mode), parallelism
+            ).thenApply(this::external);
+        }
         return externalJobService.searchJobsFromApiV2(
-                keyword, location, exp, skills, military, remote, hybrid, page, numPages
-        );
+                keyword, location, exp, skills, military, remote, hybrid, page, numPages, parseMode(mode)
+        ).thenApply(this::external);
+    }
+
+    // Body stays a plain list; staleness and source travel in headers so existing clients keep working
+    private ResponseEntity<List<ExternalJobDto>> external(ExternalJobResults results) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(SOURCE_HEADER, results.source().name().toLowerCase(Locale.ROOT));
+        if (results.stale()) {
+            response.header(STALE_HEADER, "true");
+        }
+        return response.body(results.jobs());
+    }
+
+    // Same search as /external/search2, delivered page by page as each one arrives:
+    // NDJSON (one {"page":n,"jobs":[...],"stale":false} object per line) by default, or SSE "page" events
+    @GetMapping(value = "/external/search2/stream",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public ResponseEntity<ResponseBodyEmitter> streamExternalJobsV2(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String experience,
+            @RequestParam(required = false) String skills,
+            @RequestParam(required = false, defaultValue = "false") boolean military,
+            @RequestParam(required = false, defaultValue = "false") boolean remote,
+            @RequestParam(required = false, defaultValue = "false") boolean hybrid,
+            @RequestParam(required = false, defaultValue = "1") int page,
+            @RequestParam(required = false, defaultValue = "1") int numPages,
+            @RequestParam(required = false) String mode,
+            @RequestParam(required = false, defaultValue = "4") int parallelism,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        boolean sse = accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+        ResponseBodyEmitter emitter = sse ? new SseEmitter() : new ResponseBodyEmitter();
+
+        externalJobService.streamJobsFromApiV2(
+                keyword, location, parseExperience(experience), skills, military, remote, hybrid,
+                page, numPages, parseMode(mode), parallelism,
+                jobPage -> {
+                    try {
+                        if (emitter instanceof SseEmitter sseEmitter) {
+                            sseEmitter.send(SseEmitter.event().name("page").data(jobPage, MediaType.APPLICATION_JSON));
+                        } else {
+                            // Fan-out lanes deliver pages concurrently; the record and its line break go out together
+                            synchronized (emitter) {
+                                emitter.send(jobPage, MediaType.APPLICATION_JSON);
+                                emitter.send("\n", MediaType.TEXT_PLAIN);
+                            }
+                        }
+                    } catch (IOException e) {
+                        // Client went away; failing here stops the remaining page requests
+                        throw new UncheckedIOException(e);
+                    }
+                }
+        ).whenComplete((done, ex) -> {
+            if (ex == null) {
+                emitter.complete();
+            } else {
+                emitter.completeWithError(ex);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(sse ? MediaType.TEXT_EVENT_STREAM : MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
+    private SearchMode parseMode(String raw) {
+        if (raw == null || raw.isBlank()) return SearchMode.SEQUENTIAL;
+        try {
+            return SearchMode.valueOf(raw.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown search mode: " + raw);
+        }
+    }
+
+
+    private JobTransferService.Format parseFormat(String raw) {
+        if (raw == null || raw.isBlank()) return JobTransferService.Format.NDJSON;
+        try {
+            return JobTransferService.Format.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown format: " + raw);
+        }
+    }
+
+    private JobStats.Bucket parseBucket(String raw) {
+        if (raw == null || raw.isBlank()) return JobStats.Bucket.WEEK;
+        try {
+            return JobStats.Bucket.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown bucket: " + raw);
+        }
     }
 
+    private ApplicationStatus parseStatus(String raw) {
+        try {
+            return ApplicationStatus.from(raw);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown status: " + raw);
+        }
+    }
 
     private ExperienceLevel parseExperience(String raw) {
         if (raw == null || raw.isBlank()) return null;
@@ -62,110 +244,234 @@ public class JobApplicationController {
         }
     }
 
+    // Listing and search endpoints are keyset-paginated: ?limit=N (default 100, max 500) and
+    // ?sort=id (oldest first, the default) or appliedDate; when more rows remain, the X-Next-Cursor
+    // header carries the token to send back as ?cursor=... for the next page
     @GetMapping
-    public List<JobApplication> getAllJobs() {
-        return repository.findAll();
+    public ResponseEntity<List<JobApplicationView>> getAllJobs(@RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer limit,
+                                                               @RequestParam(required = false) String sort,
+                                                               WebRequest request) {
+        return page(JobApplicationSpecs.all(), sort, cursor, limit, request);
+    }
+
+    // One search box across company, position, location and notes: ranked, prefix-matched
+    // ("goo eng" finds "Google" / "Engineer"), optionally narrowed by status and applied-date range
+    @GetMapping("/search")
+    public List<JobApplicationView> search(@RequestParam String q,
+                                           @RequestParam(required = false) String status,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate appliedFrom,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate appliedTo,
+                                           @RequestParam(required = false, defaultValue = "50") int limit) {
+        return jobSearchService.search(q, parseStatus(status), appliedFrom, appliedTo, limit);
     }
 
     @GetMapping("/search/company")
-    public List<JobApplication> searchByCompany(@RequestParam String company) {
-        return repository.findByCompanyContainingIgnoreCase(company);
+    public ResponseEntity<List<JobApplicationView>> searchByCompany(@RequestParam String company,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(required = false) Integer limit,
+                                                                    @RequestParam(required = false) String sort,
+                                                                    WebRequest request) {
+        return page(JobApplicationSpecs.companyContains(company), sort, cursor, limit, request);
     }
 
     @GetMapping("/search/position")
-    public List<JobApplication> searchByPosition(@RequestParam String position) {
-        return repository.findByPositionContainingIgnoreCase(position);
+    public ResponseEntity<List<JobApplicationView>> searchByPosition(@RequestParam String position,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(required = false) Integer limit,
+                                                                     @RequestParam(required = false) String sort,
+                                                                     WebRequest request) {
+        return page(JobApplicationSpecs.positionContains(position), sort, cursor, limit, request);
     }
 
     @GetMapping("/search/status")
-    public List<JobApplication> searchByStatus(@RequestParam String status) {
-        return repository.findByStatusIgnoreCase(status);
+    public ResponseEntity<List<JobApplicationView>> searchByStatus(@RequestParam String status,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer limit,
+                                                                   @RequestParam(required = false) String sort,
+                                                                   WebRequest request) {
+        ApplicationStatus parsed = parseStatus(status);
+        if (parsed == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "status is required");
+        }
+        return page(JobApplicationSpecs.statusIs(parsed), sort, cursor, limit, request);
     }
 
     @GetMapping("/saved")
-    public List<JobApplication> getSaved() {
-        return repository.findByStatusIgnoreCase("SAVED");
+    public ResponseEntity<List<JobApplicationView>> getSaved(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer limit,
+                                                             @RequestParam(required = false) String sort,
+                                                             WebRequest request) {
+        return page(JobApplicationSpecs.statusIs(ApplicationStatus.SAVED), sort, cursor, limit, request);
     }
 
     @GetMapping("/applied")
-    public List<JobApplication> getApplied() {
-        return repository.findByStatusIgnoreCase("APPLIED");
+    public ResponseEntity<List<JobApplicationView>> getApplied(@RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer limit,
+                                                               @RequestParam(required = false) String sort,
+                                                               WebRequest request) {
+        return page(JobApplicationSpecs.statusIs(ApplicationStatus.APPLIED), sort, cursor, limit, request);
+    }
+
+    // Delta sync: rows inserted or updated and ids deleted after ?since= (0 = everything), at most
+    // ?limit= changes per call. Keep the returned version for the next call; hasMore = call again now,
+    // with ?after= as well when the response carried one (a reset still paging through the rows)
+    @GetMapping("/changes")
+    public JobChanges changes(@RequestParam(required = false, defaultValue = "0") long since,
+                              @RequestParam(required = false) Long after,
+                              @RequestParam(required = false) Integer limit) {
+        return jobChangesService.changesSince(since, after, limit);
+    }
+
+    // Every application, streamed in id order: NDJSON by default (same fields as GET /api/jobs) or ?format=csv.
+    // Written straight to the response rather than as a StreamingResponseBody, which the 30s async timeout would cut off
+    @GetMapping("/export")
+    public void export(@RequestParam(required = false) String format, HttpServletResponse response) throws IOException {
+        JobTransferService.Format parsed = parseFormat(format);
+        boolean csv = parsed == JobTransferService.Format.CSV;
+        response.setContentType(csv ? "text/csv;charset=UTF-8" : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(csv ? "jobs.csv" : "jobs.ndjson").build().toString());
+        jobTransferService.export(parsed, response.getOutputStream());
+    }
+
+    // Bulk import: an NDJSON body in the export's shape, read line by line and committed in chunks
+    @PostMapping("/import")
+    public ImportResult importJobs(InputStream body) throws IOException {
+        return jobTransferService.importNdjson(body);
+    }
+
+    // Per-status counts plus applications per ?bucket=day|week|month (default week) between the
+    // optional appliedFrom/appliedTo dates; served from aggregates, not from the job table
+    @GetMapping("/stats")
+    public JobStats stats(@RequestParam(required = false) String bucket,
+                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate appliedFrom,
+                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate appliedTo) {
+        return jobStatsService.stats(parseBucket(bucket), appliedFrom, appliedTo);
+    }
+
+    // Every write bumps the change version, so the same version means the same page: a client
+    // sending it back as If-None-Match gets a 304 without the list being read
+    private ResponseEntity<List<JobApplicationView>> page(Specification<JobApplication> filter,
+                                                          String sort, String cursor, Integer limit,
+                                                          WebRequest request) {
+        String etag = "\"" + jobChangesService.currentVersion() + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        JobListingService.JobPage page = jobListingService.list(filter, sort, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache());
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
     }
 
     @PostMapping("/apply")
     public JobApplication applyForExternalJob(@RequestBody ApplyJobRequest req) {
-        if (req.applyUrl() != null && !req.applyUrl().isBlank()) {
-            // Already applied? -> 409
-            boolean alreadyApplied = repository
-                    .existsByApplyUrlIgnoreCaseAndStatusIgnoreCase(req.applyUrl(), "APPLIED");
-            if (alreadyApplied) {
-                throw new ResponseStatusException(HttpStatus.CONFLICT, "Already applied");
-            }
+        return writer.write(() -> {
+            if (req.applyUrl() != null && !req.applyUrl().isBlank()) {
+                // Already applied? -> 409
+                String urlKey = ApplyUrlKey.of(req.applyUrl());
+                boolean alreadyApplied = repository
+                        .existsByApplyUrlKeyAndStatus(urlKey, ApplicationStatus.APPLIED);
+                if (alreadyApplied) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, "Already applied");
+                }
 
-            // If it exists as SAVED, promote it to APPLIED
-            var existingOpt = repository.findFirstByApplyUrlIgnoreCase(req.applyUrl());
-            if (existingOpt.isPresent()) {
-                JobApplication j = existingOpt.get();
-                j.setStatus("APPLIED");
-                j.setAppliedDate(LocalDate.now());
-                return repository.save(j);
+                // If it exists as SAVED, promote it to APPLIED
+                var existingOpt = repository.findFirstByApplyUrlKeyOrderByIdAsc(urlKey);
+                if (existingOpt.isPresent()) {
+                    JobApplication j = existingOpt.get();
+                    j.setStatus(ApplicationStatus.APPLIED);
+                    j.setAppliedDate(LocalDate.now());
+                    return repository.save(j);
+                }
             }
-        }
 
-        JobApplication j = new JobApplication();
-        j.setPosition(req.position());
-        j.setCompany(req.company());
-        j.setLocation(req.location());
-        j.setApplyUrl(req.applyUrl());
-        j.setSource("JSEARCH");
-        j.setStatus("APPLIED");
-        j.setAppliedDate(java.time.LocalDate.now());
-        return repository.save(j);
+            JobApplication j = new JobApplication();
+            j.setPosition(req.position());
+            j.setCompany(req.company());
+            j.setLocation(req.location());
+            j.setApplyUrl(req.applyUrl());
+            j.setSource("JSEARCH");
+            j.setStatus(ApplicationStatus.APPLIED);
+            j.setAppliedDate(java.time.LocalDate.now());
+            return repository.save(j);
+        });
     }
 
     @PostMapping("/save")
     public JobApplication saveExternalJob(@RequestBody ApplyJobRequest req) {
-        if (req.applyUrl() != null && !req.applyUrl().isBlank()) {
-            boolean alreadySaved = repository
-                    .existsByApplyUrlIgnoreCaseAndStatusIgnoreCase(req.applyUrl(), "SAVED");
-            if (alreadySaved) {
-                // 409 tells the user "you already saved this"
-                throw new ResponseStatusException(HttpStatus.CONFLICT, "Already saved");
+        return writer.write(() -> {
+            if (req.applyUrl() != null && !req.applyUrl().isBlank()) {
+                boolean alreadySaved = repository
+                        .existsByApplyUrlKeyAndStatus(ApplyUrlKey.of(req.applyUrl()), ApplicationStatus.SAVED);
+                if (alreadySaved) {
+                    // 409 tells the user "you already saved this"
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, "Already saved");
+                }
             }
-        }
 
-        JobApplication j = new JobApplication();
-        j.setPosition(req.position());
-        j.setCompany(req.company());
-        j.setLocation(req.location());
-        j.setApplyUrl(req.applyUrl());
-        j.setSource(req.source() != null ? req.source() : "JSEARCH");
-        j.setNotes(req.notes());
-        j.setStatus("SAVED");
-        j.setAppliedDate(null);
-        return repository.save(j);
-}
+            JobApplication j = new JobApplication();
+            j.setPosition(req.position());
+            j.setCompany(req.company());
+            j.setLocation(req.location());
+            j.setApplyUrl(req.applyUrl());
+            j.setSource(req.source() != null ? req.source() : "JSEARCH");
+            j.setNotes(req.notes());
+            j.setStatus(ApplicationStatus.SAVED);
+            j.setAppliedDate(null);
+            return repository.save(j);
+        });
+    }
+
+    // Batch /apply: one dedup query and one transaction for the whole list, outcome per item
+    @PostMapping("/apply/batch")
+    public List<BatchItemResult> applyForExternalJobs(@RequestBody List<ApplyJobRequest> requests) {
+        return writer.write(() -> jobBatchService.applyAll(requests));
+    }
+
+    // Batch /save: one dedup query and one transaction for the whole list, outcome per item
+    @PostMapping("/save/batch")
+    public List<BatchItemResult> saveExternalJobs(@RequestBody List<ApplyJobRequest> requests) {
+        return writer.write(() -> jobBatchService.saveAll(requests));
+    }
 
     @PostMapping
     public JobApplication createJob(@RequestBody JobApplication job) {
         if (job.getAppliedDate() == null) {
             job.setAppliedDate(LocalDate.now());
         }
-        return repository.save(job);
+        // No default: a job without a status would be missing from the stats and every status listing
+        if (job.getStatus() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "status is required");
+        }
+        // A replayed write must not see the id handed out by a rolled-back insert
+        Long requestedId = job.getId();
+        return writer.write(() -> {
+            job.setId(requestedId);
+            return repository.save(job);
+        });
     }
 
     @DeleteMapping("/{id}")
     public void deleteJob(@PathVariable Long id) {
-        repository.deleteById(id);
+        writer.run(() -> repository.deleteById(id));
     }
 
     @PutMapping("/{id}")
     public JobApplication updateJob(@PathVariable Long id, @RequestBody JobApplication updatedJob) {
-        return repository.findById(id)
+        return writer.write(() -> repository.findById(id)
                 .map(job -> {
                     job.setCompany(updatedJob.getCompany());
                     job.setPosition(updatedJob.getPosition());
-                    job.setStatus(updatedJob.getStatus());
+                    // status is kept when the body leaves it out
+                    if (updatedJob.getStatus() != null) {
+                        job.setStatus(updatedJob.getStatus());
+                    }
 
                     // only update appliedDate if it's not null
                     if (updatedJob.getAppliedDate() != null) {
@@ -175,6 +481,56 @@ public class JobApplicationController {
                     job.setNotes(updatedJob.getNotes());
                     return repository.save(job);
                 })
-                .orElseThrow(() -> new RuntimeException("Job was not found with id " + id));
+                .orElseThrow(() -> new RuntimeException("Job was not found with id " + id)));
+    }
+
+    // Partial update: only the fields in the body are written. Send the "version" you last read to
+    // have the patch refused (409) if someone else changed the application in the meantime
+    @PatchMapping("/{id}")
+    public JobApplication patchJob(@PathVariable Long id, @RequestBody ObjectNode patch) {
+        return jobUpdateService.patch(id, patch);
+    }
+
+    // Set-based status change, e.g. {"where":{"status":"SAVED","appliedBefore":"2025-01-01"},"status":"WITHDRAWN"}
+    // or {"ids":[1,2,3],"status":"REJECTED"}: one UPDATE however many rows match
+    @PostMapping("/bulk/status")
+    public BulkResult bulkUpdateStatus(@RequestBody BulkJobRequest request) {
+        return new BulkResult(jobUpdateService.updateStatus(request));
+    }
+
+    // Set-based delete with the same ids/where selection: one DELETE however many rows match
+    @PostMapping("/bulk/delete")
+    public BulkResult bulkDelete(@RequestBody BulkJobRequest request) {
+        return new BulkResult(jobUpdateService.delete(request));
+    }
+
+    // A PATCH with a stale version, or two writes to the same row racing each other
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<String> onStaleVersion(ObjectOptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("The job application was changed by someone else; reload it and try again");
+    }
+
+    // JSearch is being shed (breaker open or quota used up) and there was nothing stale to serve
+    @ExceptionHandler({CallNotPermittedException.class, RequestNotPermitted.class})
+    public ResponseEntity<String> onJsearchRejected(RuntimeException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Job search is temporarily unavailable, try again shortly");
+    }
+
+    @ExceptionHandler(JsearchException.class)
+    public ResponseEntity<String> onJsearchFailed(JsearchException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(ex.getMessage());
+    }
+
+    // The (applyUrlKey, status) unique index rejects a second row for the same posting and status.
+    // Hibernate and JdbcTemplate wrap SQLite's error in different exception types, so match on the
+    // driver's error itself; any other failure is a bug, not a conflict, and rethrown stays a 500
+    @ExceptionHandler(DataAccessException.class)
+    public ResponseEntity<Void> onDuplicateJob(DataAccessException ex) {
+        if (!(ex.getMostSpecificCause() instanceof SQLiteException sqlite)
+                || sqlite.getResultCode() != SQLiteErrorCode.SQLITE_CONSTRAINT_UNIQUE
+                || !sqlite.getMessage().contains(DUPLICATE_POSTING)) {
+            throw ex;
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
     }
 }
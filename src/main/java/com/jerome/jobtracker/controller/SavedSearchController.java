@@ -0,0 +1,124 @@
+package com.jerome.jobtracker.controller;
+
+import com.jerome.jobtracker.dto.SavedSearchRequest;
+import com.jerome.jobtracker.model.SavedSearch;
+import com.jerome.jobtracker.model.SavedSearchHit;
+import com.jerome.jobtracker.repository.SavedSearchHitRepository;
+import com.jerome.jobtracker.repository.SavedSearchRepository;
+import com.jerome.jobtracker.service.JsearchException;
+import com.jerome.jobtracker.service.SavedSearchRefresher;
+import com.jerome.jobtracker.service.SqliteWriter;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Saved /external/search2 parameter sets, refreshed in the background by SavedSearchRefresher
+@RestController
+@RequestMapping("/api/saved-searches")
+public class SavedSearchController {
+
+    private final SavedSearchRepository searchRepository;
+    private final SavedSearchHitRepository hitRepository;
+    private final SavedSearchRefresher refresher;
+    private final SqliteWriter writer;
+    private final int maxLimit;
+
+    public SavedSearchController(SavedSearchRepository searchRepository,
+                                 SavedSearchHitRepository hitRepository,
+                                 SavedSearchRefresher refresher,
+                                 SqliteWriter writer,
+                                 @Value("${jobtracker.page.max-limit:500}") int maxLimit) {
+        this.searchRepository = searchRepository;
+        this.hitRepository = hitRepository;
+        this.refresher = refresher;
+        this.writer = writer;
+        this.maxLimit = maxLimit;
+    }
+
+    @GetMapping
+    public List<SavedSearch> list() {
+        return searchRepository.findAll();
+    }
+
+    // Same fields as the /external/search2 parameters; experience is one of the ExperienceLevel names
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public SavedSearch create(@RequestBody SavedSearchRequest request) {
+        if (request.keyword() == null || request.keyword().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "keyword is required");
+        }
+        SavedSearch search = new SavedSearch();
+        search.setName(request.name());
+        search.setKeyword(request.keyword());
+        search.setLocation(request.location());
+        search.setExperience(request.experience());
+        search.setSkills(request.skills());
+        search.setMilitary(request.military());
+        search.setRemote(request.remote());
+        search.setHybrid(request.hybrid());
+        search.setNumPages(request.numPages() == null ? 1 : Math.max(1, Math.min(request.numPages(), 10)));
+        // A replayed write must not see the id handed out by a rolled-back insert
+        return writer.write(() -> {
+            search.setId(null);
+            return searchRepository.save(search);
+        });
+    }
+
+    @DeleteMapping("/{id}")
+    public void delete(@PathVariable Long id) {
+        writer.run(() -> {
+            hitRepository.deleteBySavedSearchId(id);
+            searchRepository.deleteById(id);
+        });
+    }
+
+    // Run one search now instead of waiting for the schedule; returns it with lastRunAt/lastNewCount updated,
+    // or 404 if it was deleted while JSearch was answering
+    @PostMapping("/{id}/refresh")
+    public CompletableFuture<SavedSearch> refresh(@PathVariable Long id) {
+        return refresher.refresh(find(id)).thenApply(updated -> {
+            if (updated == null) throw notFound(id);
+            return updated;
+        });
+    }
+
+    // Postings first seen after ?since= (ISO instant, e.g. 2025-01-31T08:00:00Z), newest first;
+    // without since, the most recent ones
+    @GetMapping("/{id}/new")
+    public List<SavedSearchHit> newSince(@PathVariable Long id,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+                                         @RequestParam(required = false, defaultValue = "100") int limit) {
+        find(id);
+        return hitRepository.findBySavedSearchIdAndFirstSeenAtAfterOrderByFirstSeenAtDescIdDesc(
+                id, since != null ? since : Instant.EPOCH, Limit.of(Math.max(1, Math.min(limit, maxLimit))));
+    }
+
+    private SavedSearch find(Long id) {
+        return searchRepository.findById(id)
+                .orElseThrow(() -> notFound(id));
+    }
+
+    private static ResponseStatusException notFound(Long id) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Saved search " + id + " not found");
+    }
+
+    @ExceptionHandler({CallNotPermittedException.class, RequestNotPermitted.class})
+    public ResponseEntity<String> onJsearchRejected(RuntimeException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Job search is temporarily unavailable, try again shortly");
+    }
+
+    @ExceptionHandler(JsearchException.class)
+    public ResponseEntity<String> onJsearchFailed(JsearchException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(ex.getMessage());
+    }
+}
@@ -0,0 +1,18 @@
+package com.jerome.jobtracker.dto;
+
+import com.jerome.jobtracker.model.JobApplication;
+
+// Outcome for one entry of a batch save/apply, reported at the same index as the request
+public record BatchItemResult(
+        int index,
+        String applyUrl,
+        Outcome outcome,
+        JobApplication job,
+        String message
+) {
+    public enum Outcome {
+        CREATED,
+        PROMOTED,  // an existing row for this URL was moved to APPLIED
+        CONFLICT
+    }
+}
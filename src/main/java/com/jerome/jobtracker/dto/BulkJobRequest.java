@@ -0,0 +1,17 @@
+package com.jerome.jobtracker.dto;
+
+import com.jerome.jobtracker.model.ApplicationStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Body of POST /api/jobs/bulk/status and /bulk/delete: rows in ids and/or matching where (all
+// given conditions must hold). status = the new status (status change only)
+public record BulkJobRequest(
+        List<Long> ids,
+        Filter where,
+        ApplicationStatus status
+) {
+    // company = case-insensitive contains; appliedBefore = appliedDate strictly before this day
+    public record Filter(ApplicationStatus status, String company, LocalDate appliedBefore) {}
+}
@@ -0,0 +1,4 @@
+package com.jerome.jobtracker.dto;
+
+// Rows changed (or deleted) by a bulk request
+public record BulkResult(int affected) {}
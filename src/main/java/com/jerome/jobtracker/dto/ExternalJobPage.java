@@ -0,0 +1,9 @@
+package com.jerome.jobtracker.dto;
+
+import java.util.List;
+
+public record ExternalJobPage(
+        int page,
+        List<ExternalJobDto> jobs,
+        boolean stale
+) {}
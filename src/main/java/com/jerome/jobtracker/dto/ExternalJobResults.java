@@ -0,0 +1,18 @@
+package com.jerome.jobtracker.dto;
+
+import java.util.List;
+
+// stale = served from the last good result for the query because JSearch was unavailable
+// source = answered by JSearch or by the local job catalog
+public record ExternalJobResults(
+        List<ExternalJobDto> jobs,
+        boolean stale,
+        Source source
+) {
+
+    public enum Source { JSEARCH, CATALOG }
+
+    public ExternalJobResults(List<ExternalJobDto> jobs, boolean stale) {
+        this(jobs, stale, Source.JSEARCH);
+    }
+}
@@ -0,0 +1,14 @@
+package com.jerome.jobtracker.dto;
+
+import java.util.List;
+
+// POST /api/jobs/import: rows inserted, rows skipped as already present (same applyUrl and status),
+// and lines that could not be read; errors lists the first of those by line number
+public record ImportResult(
+        long imported,
+        long duplicates,
+        long rejected,
+        List<LineError> errors
+) {
+    public record LineError(long line, String message) {}
+}
@@ -0,0 +1,20 @@
+package com.jerome.jobtracker.dto;
+
+import com.jerome.jobtracker.model.ApplicationStatus;
+
+import java.time.LocalDate;
+
+// Read-only row for the listing and search endpoints: the columns JobApplication serializes, in the
+// same order, so the JSON is unchanged. Built straight from the query, never a managed entity
+public record JobApplicationView(
+        Long id,
+        String company,
+        String position,
+        ApplicationStatus status,
+        LocalDate appliedDate,
+        String location,
+        String applyUrl,
+        String source,
+        String notes,
+        long version
+) {}
@@ -0,0 +1,16 @@
+package com.jerome.jobtracker.dto;
+
+import java.util.List;
+
+// GET /api/jobs/changes: rows inserted or updated and ids deleted after ?since=, oldest change first.
+// version = pass back as since next time; hasMore = call again straight away. reset = upserted is a
+// page of every application in id order (since=0, or a since older than tombstone retention): the
+// first page replaces the local copy, later ones add to it. While a reset has more, pass after back too
+public record JobChanges(
+        long version,
+        List<JobApplicationView> upserted,
+        List<Long> deleted,
+        boolean hasMore,
+        boolean reset,
+        Long after
+) {}
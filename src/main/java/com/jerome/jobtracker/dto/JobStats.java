@@ -0,0 +1,21 @@
+package com.jerome.jobtracker.dto;
+
+import com.jerome.jobtracker.model.ApplicationStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// GET /api/jobs/stats: rows per status, and rows per appliedDate grouped into day/week/month buckets
+public record JobStats(
+        Map<ApplicationStatus, Long> byStatus,
+        long total,
+        Bucket bucket,
+        List<BucketCount> applied
+) {
+
+    public enum Bucket { DAY, WEEK, MONTH }
+
+    // start = the bucket's first day (weeks start on Monday); buckets without applications are left out
+    public record BucketCount(LocalDate start, long count) {}
+}
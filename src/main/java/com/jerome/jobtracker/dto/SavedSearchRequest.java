@@ -0,0 +1,16 @@
+package com.jerome.jobtracker.dto;
+
+import com.jerome.jobtracker.model.ExperienceLevel;
+
+// POST /api/saved-searches: the /external/search2 parameters to re-run; numPages defaults to 1
+public record SavedSearchRequest(
+        String name,
+        String keyword,
+        String location,
+        ExperienceLevel experience,
+        String skills,
+        boolean military,
+        boolean remote,
+        boolean hybrid,
+        Integer numPages
+) {}
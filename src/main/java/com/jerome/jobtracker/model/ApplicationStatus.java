@@ -0,0 +1,34 @@
+package com.jerome.jobtracker.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Locale;
+
+// Stored by name (see JobApplication.status); clients may send any case, e.g. "Applied"
+public enum ApplicationStatus {
+    SAVED,
+    APPLIED,
+    INTERVIEWING,
+    OFFER,
+    REJECTED,
+    WITHDRAWN;
+
+    /**
+     * Lenient parse for request bodies, query parameters and legacy rows: case, surrounding
+     * blanks and spaces/hyphens are ignored, and a few common spellings are accepted
+     * ("interview", "offered"). Null for null or blank input.
+     *
+     * @throws IllegalArgumentException for anything else
+     */
+    @JsonCreator
+    public static ApplicationStatus from(String raw) {
+        if (raw == null || raw.isBlank()) return null;
+        String norm = raw.trim().toUpperCase(Locale.ROOT).replace(' ', '_').replace('-', '_');
+        return switch (norm) {
+            case "INTERVIEW", "INTERVIEWED" -> INTERVIEWING;
+            case "OFFERED" -> OFFER;
+            case "WITHDRAWN_APPLICATION", "WITHDREW" -> WITHDRAWN;
+            default -> valueOf(norm);
+        };
+    }
+}
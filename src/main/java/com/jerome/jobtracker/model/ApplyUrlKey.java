@@ -0,0 +1,73 @@
+package com.jerome.jobtracker.model;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Dedup key for apply links: a SHA-256 of the canonical URL. Two links that differ only by
+ * case, scheme (http/https), a leading "www.", default port, trailing slash, fragment,
+ * query-parameter order or tracking parameters (utm_*, gclid, ...) get the same key.
+ */
+public final class ApplyUrlKey {
+
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "gclid", "fbclid", "msclkid", "dclid", "igshid", "mc_cid", "mc_eid", "_hsenc", "_hsmi", "trk", "trackingid");
+
+    private ApplyUrlKey() {}
+
+    // null for a missing/blank URL, so rows without a link never collide
+    public static String of(String applyUrl) {
+        String canonical = canonicalize(applyUrl);
+        if (canonical == null) return null;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static String canonicalize(String applyUrl) {
+        if (applyUrl == null || applyUrl.isBlank()) return null;
+        String raw = applyUrl.trim().toLowerCase(Locale.ROOT);
+
+        URI uri;
+        try {
+            uri = new URI(raw);
+        } catch (URISyntaxException e) {
+            return raw; // not a parseable URL; fall back to the old case-insensitive comparison
+        }
+        if (uri.getHost() == null) return raw;
+
+        String scheme = uri.getScheme() == null || uri.getScheme().equals("http") ? "https" : uri.getScheme();
+        String host = uri.getHost().startsWith("www.") ? uri.getHost().substring(4) : uri.getHost();
+        int port = uri.getPort();
+        boolean defaultPort = port == -1 || port == 80 || port == 443;
+
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        while (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+
+        String query = uri.getRawQuery() == null ? "" : Arrays.stream(uri.getRawQuery().split("&"))
+                .filter(param -> !param.isEmpty() && !isTracking(param))
+                .sorted()
+                .collect(Collectors.joining("&"));
+
+        return scheme + "://" + host + (defaultPort ? "" : ":" + port) + path + (query.isEmpty() ? "" : "?" + query);
+    }
+
+    private static boolean isTracking(String param) {
+        int eq = param.indexOf('=');
+        String name = eq < 0 ? param : param.substring(0, eq);
+        return name.startsWith("utm_") || TRACKING_PARAMS.contains(name);
+    }
+}
@@ -1,12 +1,33 @@
 package com.jerome.jobtracker.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
+import java.util.Objects;
 
 @Entity
 @Data
+// Updates write only the columns that changed, e.g. just status for a PATCH of the status
+@DynamicUpdate
+// Duplicate detection, one row per posting per status (a posting may be both SAVED and APPLIED), is the
+// unique index ux_job_application_url_key_status on (applyUrlKey, status); ApplyUrlKeyBackfill creates it
+@Table(name = "job_application", indexes = {
+        // Keyset pagination by appliedDate (the id ordering uses the primary key)
+        @Index(name = "ix_job_application_applied_date_id", columnList = "appliedDate, id"),
+        // Status listings (/saved, /applied, /search/status) in appliedDate order
+        @Index(name = "ix_job_application_status_applied_date", columnList = "status, appliedDate"),
+        // Delta sync: GET /api/jobs/changes?since=
+        @Index(name = "ix_job_application_change_version", columnList = "changeVersion")
+})
 public class JobApplication {
 
     @Id
@@ -15,7 +36,9 @@ public class JobApplication {
 
     private String company;
     private String position;
-    private String status;
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ApplicationStatus status;
     private LocalDate appliedDate;
 
     private String location;
@@ -23,8 +46,54 @@ public class JobApplication {
     @Column(length = 1000)
     private String applyUrl;
 
+    // SHA-256 of the canonical applyUrl (see ApplyUrlKey), set on insert and whenever applyUrl changes.
+    // Null on legacy duplicates (see ApplyUrlKeyBackfill), which keep it null until their URL is edited
+    @JsonIgnore
+    @Column(length = 64)
+    private String applyUrlKey;
+
     private String source;
 
     @Column(length = 1000)
     private String notes;
-}
\ No newline at end of file
+
+    // Optimistic lock: bumped on every JPA and bulk update; PATCH /api/jobs/{id} can require the caller's copy
+    // The default lets ddl-auto add the column to an existing SQLite table (rows start at 0) and
+    // covers inserts that don't go through JPA
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
+    // Stamped by the job_changes triggers on every insert and update (see JobChangeLogSchema), never by JPA
+    @JsonIgnore
+    @Column(insertable = false, updatable = false)
+    private Long changeVersion;
+
+    // applyUrl as last read or written, so an update only re-keys the row when the URL itself changed
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String storedApplyUrl;
+
+    @PostLoad
+    @PostPersist
+    void rememberApplyUrl() {
+        storedApplyUrl = applyUrl;
+    }
+
+    @PrePersist
+    void keyApplyUrl() {
+        applyUrlKey = ApplyUrlKey.of(applyUrl);
+    }
+
+    @PreUpdate
+    void rekeyChangedApplyUrl() {
+        if (!Objects.equals(applyUrl, storedApplyUrl)) {
+            applyUrlKey = ApplyUrlKey.of(applyUrl);
+            storedApplyUrl = applyUrl;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.jerome.jobtracker.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+// A /external/search2 parameter set that SavedSearchRefresher re-runs in the background
+@Entity
+@Data
+@Table(name = "saved_search")
+public class SavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String name;
+
+    @Column(nullable = false)
+    private String keyword;
+
+    private String location;
+
+    @Enumerated(EnumType.STRING)
+    private ExperienceLevel experience;
+
+    // CSV, as in /external/search2?skills=
+    private String skills;
+
+    private boolean military;
+    private boolean remote;
+    private boolean hybrid;
+
+    private int numPages = 1;
+
+    // Outcome of the last background refresh
+    private Instant lastRunAt;
+    private Integer lastNewCount;
+}
@@ -0,0 +1,39 @@
+package com.jerome.jobtracker.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+// A posting a saved search returned, stored once: the run that first saw it sets firstSeenAt
+@Entity
+@Data
+@Table(name = "saved_search_hit", indexes = {
+        // Diff against earlier runs: one row per posting per saved search
+        @Index(name = "ux_saved_search_hit_search_url_key", columnList = "savedSearchId, applyUrlKey", unique = true),
+        // "New since" listing
+        @Index(name = "ix_saved_search_hit_search_first_seen", columnList = "savedSearchId, firstSeenAt")
+})
+public class SavedSearchHit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long savedSearchId;
+
+    @JsonIgnore
+    @Column(length = 64, nullable = false)
+    private String applyUrlKey;
+
+    private String title;
+    private String company;
+    private String location;
+
+    @Column(length = 1000)
+    private String applyUrl;
+
+    private Instant firstSeenAt;
+}
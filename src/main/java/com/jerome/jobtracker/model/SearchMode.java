@@ -0,0 +1,6 @@
+package com.jerome.jobtracker.model;
+
+public enum SearchMode {
+    SEQUENTIAL,  // try q1, then q2, then q3; never spends quota on a tier it doesn't need
+    SPECULATIVE  // fire all tiers at once and keep the most specific non-empty result
+}
@@ -1,27 +1,26 @@
 package com.jerome.jobtracker.repository;
 
+import com.jerome.jobtracker.model.ApplicationStatus;
 import com.jerome.jobtracker.model.JobApplication;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
-    // Return the existing row if this URL is already in the table (any status)
-    Optional<JobApplication> findFirstByApplyUrlIgnoreCase(String applyUrl);
+public interface JobApplicationRepository extends JpaRepository<JobApplication, Long>,
+        JpaSpecificationExecutor<JobApplication>, JobApplicationViews {
+    // Listing/search endpoints read JobApplicationView projections (findViews, searchFullText in JobApplicationViews)
 
-    // Search by company name (case-insensitive contains)
-    List<JobApplication> findByCompanyContainingIgnoreCase(String company);
-
-    // Search by position
-    List<JobApplication> findByPositionContainingIgnoreCase(String position);
-
-    // Search by status
-    List<JobApplication> findByStatusIgnoreCase(String status);
+    // Return the existing row if this URL is already in the table (any status); key = ApplyUrlKey.of(url)
+    Optional<JobApplication> findFirstByApplyUrlKeyOrderByIdAsc(String applyUrlKey);
 
     // Check for Already Saved or Already applied
-    boolean existsByApplyUrlIgnoreCaseAndStatusIgnoreCase(String applyUrl, String status);
+    boolean existsByApplyUrlKeyAndStatus(String applyUrlKey, ApplicationStatus status);
 
+    // Batch dedup: every row matching one of the given URL keys
+    List<JobApplication> findByApplyUrlKeyIn(Collection<String> applyUrlKeys);
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.jerome.jobtracker.repository;
+
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.JobApplication;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+// Filters for the paged listing endpoints; combine with Specification.and(...)
+public final class JobApplicationSpecs {
+
+    private JobApplicationSpecs() {}
+
+    public static Specification<JobApplication> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    // Case-insensitive contains, same as the derived ...ContainingIgnoreCase queries
+    public static Specification<JobApplication> companyContains(String company) {
+        return contains("company", company);
+    }
+
+    public static Specification<JobApplication> positionContains(String position) {
+        return contains("position", position);
+    }
+
+    // Exact match on the indexed column; parse user input with ApplicationStatus.from first
+    public static Specification<JobApplication> statusIs(ApplicationStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    private static Specification<JobApplication> contains(String field, String value) {
+        String pattern = "%" + value.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get(field)), pattern, '\\');
+    }
+}
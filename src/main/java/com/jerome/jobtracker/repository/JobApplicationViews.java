@@ -0,0 +1,30 @@
+package com.jerome.jobtracker.repository;
+
+import com.jerome.jobtracker.dto.JobApplicationView;
+import com.jerome.jobtracker.model.JobApplication;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Projection queries behind the listing and search endpoints (implemented in
+ * JobApplicationViewsImpl). They select only the serialized columns into JobApplicationView, so
+ * nothing enters the persistence context: no entity instances, snapshots or dirty checks.
+ */
+public interface JobApplicationViews {
+
+    // A row for delta sync, with the change version it was last stamped with
+    record ChangedView(JobApplicationView view, long changeVersion) {}
+
+    // Same filter/sort/limit as findBy(spec, q -> q.sortBy(sort).limit(limit).all()), as views
+    List<JobApplicationView> findViews(Specification<JobApplication> spec, Sort sort, int limit);
+
+    // Full-text search (FTS5, see JobSearchIndex) with optional filters; best BM25 match first.
+    // match is an FTS5 expression (see JobSearchService.toMatchExpression)
+    List<JobApplicationView> searchFullText(String match, String status, LocalDate appliedFrom, LocalDate appliedTo, int limit);
+
+    // Delta sync: rows inserted or updated after a change version, oldest change first
+    List<ChangedView> findChangedAfter(long since, int limit);
+}
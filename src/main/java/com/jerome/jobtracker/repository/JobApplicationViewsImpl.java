@@ -0,0 +1,103 @@
+package com.jerome.jobtracker.repository;
+
+import com.jerome.jobtracker.dto.JobApplicationView;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.JobApplication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+// Fragment implementation for JobApplicationRepository (Spring Data finds it by the Impl suffix)
+class JobApplicationViewsImpl implements JobApplicationViews {
+
+    // bm25 weights follow the FTS column order: company, position, location, notes
+    private static final String SEARCH_FULL_TEXT = """
+            select j.id, j.company, j.position, j.status, j.applied_date, j.location, j.apply_url, j.source, j.notes, j.version
+            from job_application_fts f
+            join job_application j on j.id = f.rowid
+            where job_application_fts match :match
+              and (:status is null or j.status = :status)
+              and (:appliedFrom is null or j.applied_date >= :appliedFrom)
+              and (:appliedTo is null or j.applied_date <= :appliedTo)
+            order by bm25(job_application_fts, 2.0, 3.0, 1.0, 0.5), j.id desc
+            limit :limit
+            """;
+
+    // Same columns as VIEW reads, then the version for the delta merge; served by ix_job_application_change_version
+    private static final String FIND_CHANGED_AFTER = """
+            select id, company, position, status, applied_date, location, apply_url, source, notes, version, change_version
+            from job_application
+            where change_version > :since
+            order by change_version
+            limit :limit
+            """;
+
+    private static final RowMapper<JobApplicationView> VIEW = (rs, rowNum) -> {
+        String status = rs.getString(4);
+        // getDate decodes applied_date the same way Hibernate wrote it
+        Date appliedDate = rs.getDate(5);
+        return new JobApplicationView(rs.getLong(1), rs.getString(2), rs.getString(3),
+                status != null ? ApplicationStatus.valueOf(status) : null,
+                appliedDate != null ? appliedDate.toLocalDate() : null,
+                rs.getString(6), rs.getString(7), rs.getString(8), rs.getString(9), rs.getLong(10));
+    };
+
+    private final EntityManager entityManager;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    JobApplicationViewsImpl(EntityManager entityManager, NamedParameterJdbcTemplate jdbcTemplate) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<JobApplicationView> findViews(Specification<JobApplication> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobApplicationView> query = cb.createQuery(JobApplicationView.class);
+        Root<JobApplication> root = query.from(JobApplication.class);
+        query.select(cb.construct(JobApplicationView.class,
+                root.get("id"), root.get("company"), root.get("position"), root.get("status"),
+                root.get("appliedDate"), root.get("location"), root.get("applyUrl"), root.get("source"),
+                root.get("notes"), root.get("version")));
+        Predicate where = spec.toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(sort.stream()
+                .map(order -> order.isAscending() ? cb.asc(root.get(order.getProperty())) : cb.desc(root.get(order.getProperty())))
+                .toList());
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<JobApplicationView> searchFullText(String match, String status, LocalDate appliedFrom, LocalDate appliedTo, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("match", match)
+                .addValue("status", status, Types.VARCHAR)
+                .addValue("appliedFrom", appliedFrom != null ? Date.valueOf(appliedFrom) : null, Types.DATE)
+                .addValue("appliedTo", appliedTo != null ? Date.valueOf(appliedTo) : null, Types.DATE)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(SEARCH_FULL_TEXT, params, VIEW);
+    }
+
+    @Override
+    public List<ChangedView> findChangedAfter(long since, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("since", since)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(FIND_CHANGED_AFTER, params,
+                (rs, rowNum) -> new ChangedView(VIEW.mapRow(rs, rowNum), rs.getLong(11)));
+    }
+}
@@ -0,0 +1,66 @@
+package com.jerome.jobtracker.repository;
+
+import com.jerome.jobtracker.dto.ExternalJobDto;
+import com.jerome.jobtracker.model.ApplyUrlKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * SQL over job_catalog (see JobCatalogSchema). Plain JDBC: the upsert needs SQLite's
+ * "on conflict ... do update", and reads go straight to the DTO without an entity in between.
+ */
+@Repository
+public class JobCatalogRepository {
+
+    private static final String UPSERT = """
+            insert into job_catalog (apply_url_key, apply_url, title, company, location, first_seen, last_seen)
+            values (?, ?, ?, ?, ?, ?, ?)
+            on conflict (apply_url_key) do update set
+              apply_url = excluded.apply_url,
+              title = excluded.title,
+              company = excluded.company,
+              location = excluded.location,
+              last_seen = excluded.last_seen
+            """;
+
+    // bm25 weights follow the FTS column order: title, company, location
+    private static final String SEARCH = """
+            select c.title, c.company, c.location, c.apply_url from job_catalog_fts f
+            join job_catalog c on c.id = f.rowid
+            where job_catalog_fts match ?
+              and c.last_seen >= ?
+            order by bm25(job_catalog_fts, 3.0, 2.0, 1.0), c.last_seen desc
+            limit ? offset ?
+            """;
+
+    private static final RowMapper<ExternalJobDto> JOB = (rs, rowNum) ->
+            new ExternalJobDto(rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobCatalogRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Inserts new postings and bumps last_seen (and the text) on known ones; jobs without an applyUrl are skipped
+    public void upsert(List<ExternalJobDto> jobs, long seenAt) {
+        List<ExternalJobDto> keyed = jobs.stream().filter(job -> ApplyUrlKey.of(job.applyUrl()) != null).toList();
+        jdbcTemplate.batchUpdate(UPSERT, keyed, keyed.size(), (ps, job) -> {
+            ps.setString(1, ApplyUrlKey.of(job.applyUrl()));
+            ps.setString(2, job.applyUrl());
+            ps.setString(3, job.title());
+            ps.setString(4, job.company());
+            ps.setString(5, job.location());
+            ps.setLong(6, seenAt);
+            ps.setLong(7, seenAt);
+        });
+    }
+
+    // FTS5 match over postings seen at or after seenSince; best match first
+    public List<ExternalJobDto> search(String match, long seenSince, int offset, int limit) {
+        return jdbcTemplate.query(SEARCH, JOB, match, seenSince, limit, offset);
+    }
+}
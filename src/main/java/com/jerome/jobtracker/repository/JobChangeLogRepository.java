@@ -0,0 +1,46 @@
+package com.jerome.jobtracker.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// The change counter and delete tombstones maintained by the JobChangeLogSchema triggers
+@Repository
+public class JobChangeLogRepository {
+
+    public record Tombstone(long id, long changeVersion) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobChangeLogRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Latest version handed out; changes whenever any job application is inserted, updated or deleted
+    public long currentVersion() {
+        Long version = jdbcTemplate.queryForObject("select version from job_change_seq where id = 1", Long.class);
+        return version != null ? version : 0;
+    }
+
+    // Newest version whose tombstones were pruned: a delta from below it would miss deletes
+    public long prunedThrough() {
+        Long version = jdbcTemplate.queryForObject("select pruned_through from job_change_seq where id = 1", Long.class);
+        return version != null ? version : 0;
+    }
+
+    // Drops tombstones of deletes before the cutoff (epoch seconds) and raises pruned_through past them
+    public int pruneDeletedBefore(long cutoff) {
+        jdbcTemplate.update("update job_change_seq set pruned_through = max(pruned_through,"
+                + " coalesce((select max(change_version) from job_application_tombstone where deleted_at < ?), 0)) where id = 1",
+                cutoff);
+        return jdbcTemplate.update("delete from job_application_tombstone where deleted_at < ?", cutoff);
+    }
+
+    public List<Tombstone> deletedAfter(long since, int limit) {
+        return jdbcTemplate.query(
+                "select id, change_version from job_application_tombstone where change_version > ? order by change_version limit ?",
+                (rs, rowNum) -> new Tombstone(rs.getLong(1), rs.getLong(2)),
+                since, limit);
+    }
+}
@@ -0,0 +1,43 @@
+package com.jerome.jobtracker.repository;
+
+import com.jerome.jobtracker.model.ApplicationStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the trigger-maintained aggregates (see JobStatsSchema); never touches job_application.
+ * Both tables hold one row per status / per distinct appliedDate, so these are small full reads.
+ */
+@Repository
+public class JobStatsRepository {
+
+    public record DayCount(LocalDate day, long count) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobStatsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Every status, zero when there are no rows with it
+    public Map<ApplicationStatus, Long> countByStatus() {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        jdbcTemplate.query("select status, n from job_status_count where n > 0",
+                rs -> { counts.put(ApplicationStatus.valueOf(rs.getString(1)), rs.getLong(2)); });
+        return counts;
+    }
+
+    // getDate decodes applied_date the same way Hibernate wrote it, whatever the storage format
+    public List<DayCount> countByAppliedDate() {
+        return jdbcTemplate.query("select applied_date, n from job_applied_day where n > 0",
+                (rs, rowNum) -> new DayCount(rs.getDate(1).toLocalDate(), rs.getLong(2)));
+    }
+}
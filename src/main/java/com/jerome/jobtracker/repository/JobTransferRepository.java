@@ -0,0 +1,96 @@
+package com.jerome.jobtracker.repository;
+
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.ApplyUrlKey;
+import com.jerome.jobtracker.model.JobApplication;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Plain JDBC for bulk export/import (see JobTransferService): rows go straight between the
+ * result set or batch and the caller's chunk, never through a persistence context that would
+ * grow with the number of rows. Inserts fire the same triggers as JPA writes (full-text index,
+ * stats, change log).
+ */
+@Repository
+public class JobTransferRepository {
+
+    private static final String CHUNK_AFTER = """
+            select id, company, position, status, applied_date, location, apply_url, source, notes, version
+            from job_application where id > ? order by id limit ?
+            """;
+
+    // OR IGNORE: a row whose (apply_url_key, status) is already taken is skipped, not a failure
+    private static final String INSERT = """
+            insert or ignore into job_application
+              (company, position, status, applied_date, location, apply_url, apply_url_key, source, notes)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final RowMapper<JobApplication> JOB = (rs, rowNum) -> {
+        JobApplication job = new JobApplication();
+        job.setId(rs.getLong(1));
+        job.setCompany(rs.getString(2));
+        job.setPosition(rs.getString(3));
+        String status = rs.getString(4);
+        job.setStatus(status != null ? ApplicationStatus.valueOf(status) : null);
+        // getDate decodes applied_date the same way Hibernate wrote it
+        Date appliedDate = rs.getDate(5);
+        job.setAppliedDate(appliedDate != null ? appliedDate.toLocalDate() : null);
+        job.setLocation(rs.getString(6));
+        job.setApplyUrl(rs.getString(7));
+        job.setSource(rs.getString(8));
+        job.setNotes(rs.getString(9));
+        job.setVersion(rs.getLong(10));
+        return job;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobTransferRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Keyset chunk in id order: one short read per chunk, so an export never holds the database open for its whole run
+    public List<JobApplication> chunkAfter(long afterId, int size) {
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(CHUNK_AFTER);
+            ps.setFetchSize(size);
+            ps.setLong(1, afterId);
+            ps.setInt(2, size);
+            return ps;
+        }, JOB);
+    }
+
+    // Number of rows actually inserted; the rest were duplicates
+    public int insertAll(List<JobApplication> jobs) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT, jobs, jobs.size(), (ps, job) -> {
+            ps.setString(1, job.getCompany());
+            ps.setString(2, job.getPosition());
+            ps.setString(3, job.getStatus() != null ? job.getStatus().name() : null);
+            if (job.getAppliedDate() != null) {
+                ps.setDate(4, Date.valueOf(job.getAppliedDate()));
+            } else {
+                ps.setNull(4, Types.DATE);
+            }
+            ps.setString(5, job.getLocation());
+            ps.setString(6, job.getApplyUrl());
+            ps.setString(7, ApplyUrlKey.of(job.getApplyUrl()));
+            ps.setString(8, job.getSource());
+            ps.setString(9, job.getNotes());
+        });
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0) inserted++;
+            }
+        }
+        return inserted;
+    }
+}
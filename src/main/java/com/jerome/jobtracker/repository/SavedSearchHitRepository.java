@@ -0,0 +1,29 @@
+package com.jerome.jobtracker.repository;
+
+import com.jerome.jobtracker.model.SavedSearchHit;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SavedSearchHitRepository extends JpaRepository<SavedSearchHit, Long> {
+
+    // Diff: which of these postings an earlier run of the search already stored
+    @Query("select h.applyUrlKey from SavedSearchHit h where h.savedSearchId = :searchId and h.applyUrlKey in :keys")
+    List<String> findKnownKeys(@Param("searchId") Long savedSearchId, @Param("keys") Collection<String> applyUrlKeys);
+
+    // Newest first
+    List<SavedSearchHit> findBySavedSearchIdAndFirstSeenAtAfterOrderByFirstSeenAtDescIdDesc(
+            Long savedSearchId, Instant since, Limit limit);
+
+    @Modifying
+    @Query("delete from SavedSearchHit h where h.savedSearchId = :searchId")
+    void deleteBySavedSearchId(@Param("searchId") Long savedSearchId);
+}
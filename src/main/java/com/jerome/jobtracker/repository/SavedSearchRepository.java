@@ -0,0 +1,9 @@
+package com.jerome.jobtracker.repository;
+
+import com.jerome.jobtracker.model.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+}
@@ -1,33 +1,77 @@
 package com.jerome.jobtracker.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jerome.jobtracker.dto.ExternalJobDto;
+import com.jerome.jobtracker.dto.ExternalJobPage;
+import com.jerome.jobtracker.dto.ExternalJobResults;
+import com.jerome.jobtracker.model.ApplyUrlKey;
 import com.jerome.jobtracker.model.ExperienceLevel;
+import com.jerome.jobtracker.model.SearchMode;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClientResponseException;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 @Service
 public class ExternalJobService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper; // Spring auto-wires a preconfigured mapper
+    private static final Logger log = LoggerFactory.getLogger(ExternalJobService.class);
+
+    private final HttpClient httpClient;
+    private final JsearchResponseParser responseParser;
+    private final JsearchResponseCache responseCache;
+    private final JsearchUpstreamGuard upstreamGuard;
+    private final JobCatalog jobCatalog;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService parseExecutor; // streams response bodies through the parser
+    private final ScheduledThreadPoolExecutor deadlines; // fails exchanges whose body is still unread at readTimeout
+    private final DistributionSummary responseBytes;
+    private final DistributionSummary responseJobs;
 
     @PostConstruct
     void logApiConfig() {
-        System.out.println("[JSearch] host=" + apiHost +
-                " | keyPresent=" + (apiKey != null && !apiKey.isBlank()));
+        log.info("JSearch baseUrl={} host={} keyPresent={}", baseUrl, apiHost, apiKey != null && !apiKey.isBlank());
     }
 
     // Values pulled from application.properties (and env variable for the key)
@@ -37,69 +81,149 @@ public class ExternalJobService {
     @Value("${external.jsearch.key}")
     private String apiKey;
 
-    @Autowired
-    public ExternalJobService(RestTemplate restTemplate, ObjectMapper objectMapper) {
-        this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
-    }
-
-    public List<ExternalJobDto> searchJobsFromApi(String keyword) {
-        String url = UriComponentsBuilder
-                .fromUriString("https://jsearch.p.rapidapi.com/search")
-                .queryParam("query", keyword)
-                .queryParam("page", 1)
-                .queryParam("num_pages", 1)
-                .toUriString();
-
-        // Fail fast if API key is missing
-        if (apiKey == null || apiKey.isBlank()) {
-            throw new IllegalStateException("Missing RapidAPI key. Set the JSEARCH_API_KEY environment variable.");
-        }
+    // Scheme and host JSearch is called on; point it at a stand-in server for offline load tests
+    @Value("${external.jsearch.base-url:https://jsearch.p.rapidapi.com}")
+    private String baseUrl;
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("X-RapidAPI-Key", apiKey);
-        headers.set("X-RapidAPI-Host", apiHost);
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+    // Upper bound on one upstream exchange, from send until its body is parsed
+    @Value("${external.jsearch.http.read-timeout:10s}")
+    private Duration readTimeout;
 
-        HttpEntity<String> entity = new HttpEntity<>(headers);
+    // Ceiling on concurrent page requests per fan-out search, whatever the caller asks for
+    @Value("${external.jsearch.fan-out.max-parallelism:4}")
+    private int maxFanOutParallelism;
 
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+    @Autowired
+    public ExternalJobService(HttpClient httpClient,
+                              JsearchResponseParser responseParser,
+                              JsearchResponseCache responseCache,
+                              JsearchUpstreamGuard upstreamGuard,
+                              JobCatalog jobCatalog,
+                              MeterRegistry meterRegistry,
+                              @Value("${external.jsearch.parse-threads:8}") int parseThreads) {
+        this.httpClient = httpClient;
+        this.responseParser = responseParser;
+        this.responseCache = responseCache;
+        this.upstreamGuard = upstreamGuard;
+        this.jobCatalog = jobCatalog;
+        this.meterRegistry = meterRegistry;
+        this.responseBytes = DistributionSummary.builder("jsearch.response.size")
+                .description("Size of JSearch response bodies as read off the wire")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.responseJobs = DistributionSummary.builder("jsearch.response.jobs")
+                .description("Jobs returned by one JSearch call")
+                .register(meterRegistry);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jsearch-parse-");
+        threadFactory.setDaemon(true);
+        this.parseExecutor = Executors.newFixedThreadPool(parseThreads, threadFactory);
+
+        CustomizableThreadFactory deadlineThreads = new CustomizableThreadFactory("jsearch-deadline-");
+        deadlineThreads.setDaemon(true);
+        this.deadlines = new ScheduledThreadPoolExecutor(1, deadlineThreads);
+        this.deadlines.setRemoveOnCancelPolicy(true); // most exchanges finish well inside the deadline
+    }
 
-            // Parse JSON
-            JsonNode root = objectMapper.readTree(response.getBody());
-            JsonNode data = root.path("data"); // JSearch puts results under "data"
+    @PreDestroy
+    void shutdownParseExecutor() {
+        parseExecutor.shutdownNow();
+        deadlines.shutdownNow();
+    }
 
-            List<ExternalJobDto> results = new ArrayList<>();
-            if (data.isArray()) {
-                for (JsonNode n : data) {
-                    String title = n.path("job_title").asText(null);
-                    String company = n.path("employer_name").asText(null);
+    public CompletableFuture<ExternalJobResults> searchJobsFromApi(String keyword) {
+        return callAndParse(keyword, 1, 1);
+    }
 
-                    String city = n.path("job_city").asText("");
-                    String state = n.path("job_state").asText("");
-                    String country = n.path("job_country").asText("");
+    public CompletableFuture<ExternalJobResults> searchJobsFromApiV2(
+            String keyword,
+            String location,
+            ExperienceLevel experience,
+            String skillsCsv,
+            boolean military,
+            boolean remote,
+            boolean hybrid,
+            int page,
+            int numPages
+    ) {
+        return searchJobsFromApiV2(keyword, location, experience, skillsCsv, military, remote, hybrid,
+                page, numPages, SearchMode.SEQUENTIAL);
+    }
 
-                    String location =
-                            java.util.stream.Stream.of(city, state, country)
-                                    .filter(s -> s != null && !s.isBlank())
-                                    .collect(Collectors.joining(", "));
+    public CompletableFuture<ExternalJobResults> searchJobsFromApiV2(
+            String keyword,
+            String location,
+            ExperienceLevel experience,
+            String skillsCsv,
+            boolean military,
+            boolean remote,
+            boolean hybrid,
+            int page,
+            int numPages,
+            SearchMode mode
+    ) {
+        return fromCatalog(keyword, location, experience, skillsCsv, military, remote, hybrid, page, numPages)
+                .thenCompose(local -> local != null
+                        ? CompletableFuture.completedFuture(local)
+                        : searchJobsUpstreamV2(keyword, location, experience, skillsCsv, military, remote, hybrid,
+                                page, numPages, mode));
+    }
 
-                    String applyUrl = n.path("job_apply_link").asText(null);
+    // Same search, but always asks JSearch (through the response cache) instead of the local catalog
+    public CompletableFuture<ExternalJobResults> searchJobsUpstreamV2(
+            String keyword,
+            String location,
+            ExperienceLevel experience,
+            String skillsCsv,
+            boolean military,
+            boolean remote,
+            boolean hybrid,
+            int page,
+            int numPages,
+            SearchMode mode
+    ) {
+        List<Tier> tiers = tiers(keyword, location, experience, skillsCsv, military, remote, hybrid);
+        return resolveTier(tiers, page, numPages, mode)
+                .thenApply(result -> new ExternalJobResults(result.jobs(), result.stale()));
+    }
 
-                    results.add(new ExternalJobDto(title, company, location, applyUrl));
-                }
-            }
-            return results;
-        } catch (RestClientResponseException ex) {
-            // Surface upstream HTTP errors as a clear exception
-            throw new RuntimeException("External API error: " + ex.getStatusCode().value() + " - " + ex.getResponseBodyAsString(), ex);
-        } catch (Exception ex) {
-            throw new RuntimeException("Failed to parse external jobs: " + ex.getMessage(), ex);
-        }
+    /**
+     * Same search as {@link #searchJobsFromApiV2}, but the page range is fetched as concurrent
+     * single-page requests (at most {@code parallelism} in flight) and merged in page order,
+     * de-duplicated by applyUrl. Stale if any page had to be served stale.
+     */
+    public CompletableFuture<ExternalJobResults> searchJobsFromApiV2FanOut(
+            String keyword,
+            String location,
+            ExperienceLevel experience,
+            String skillsCsv,
+            boolean military,
+            boolean remote,
+            boolean hybrid,
+            int page,
+            int numPages,
+            SearchMode mode,
+            int parallelism
+    ) {
+        return fromCatalog(keyword, location, experience, skillsCsv, military, remote, hybrid, page, numPages)
+                .thenCompose(local -> {
+                    if (local != null) {
+                        return CompletableFuture.completedFuture(local);
+                    }
+                    Map<Integer, ExternalJobPage> pages = new ConcurrentSkipListMap<>();
+                    List<Tier> tiers = tiers(keyword, location, experience, skillsCsv, military, remote, hybrid);
+                    return fanOut(tiers, page, numPages, mode, parallelism, p -> pages.put(p.page(), p))
+                            .thenApply(done -> new ExternalJobResults(
+                                    dedupeByApplyUrl(pages.values().stream().flatMap(p -> p.jobs().stream()).toList(), new HashSet<>()),
+                                    pages.values().stream().anyMatch(ExternalJobPage::stale)));
+                });
     }
 
-    public List<ExternalJobDto> searchJobsFromApiV2(
+    /**
+     * Fan-out search that hands each page to {@code onPage} as soon as it arrives (in arrival order),
+     * minus any job whose applyUrl was already delivered on an earlier page.
+     */
+    public CompletableFuture<Void> streamJobsFromApiV2(
             String keyword,
             String location,
             ExperienceLevel experience,
@@ -108,39 +232,209 @@ public class ExternalJobService {
             boolean remote,
             boolean hybrid,
             int page,
-            int numPages
+            int numPages,
+            SearchMode mode,
+            int parallelism,
+            Consumer<ExternalJobPage> onPage
     ) {
+        Set<String> delivered = ConcurrentHashMap.newKeySet();
+        List<Tier> tiers = tiers(keyword, location, experience, skillsCsv, military, remote, hybrid);
+        return fanOut(tiers, page, numPages, mode, parallelism,
+                p -> onPage.accept(new ExternalJobPage(p.page(), dedupeByApplyUrl(p.jobs(), delivered), p.stale())));
+    }
+
+    // The catalog can match keyword, location and remote/hybrid words but not the experience, skills or
+    // military clauses, so filtered searches always go upstream. Completes with null when it can't answer
+    private CompletableFuture<ExternalJobResults> fromCatalog(String keyword,
+                                           String location,
+                                           ExperienceLevel experience,
+                                           String skillsCsv,
+                                           boolean military,
+                                           boolean remote,
+                                           boolean hybrid,
+                                           int page,
+                                           int numPages) {
+        if (experience != null || (skillsCsv != null && !skillsCsv.isBlank()) || military) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return jobCatalog.find(keyword, location, remote, hybrid, page, numPages)
+                .thenApply(jobs -> jobs == null ? null : new ExternalJobResults(jobs, false, ExternalJobResults.Source.CATALOG));
+    }
+
+    static List<Tier> tiers(String keyword,
+                            String location,
+                            ExperienceLevel experience,
+                            String skillsCsv,
+                            boolean military,
+                            boolean remote,
+                            boolean hybrid) {
         // 1) Most specific query
         String q1 = buildQuery(keyword, location, experience, skillsCsv, military, remote, hybrid);
-        List<ExternalJobDto> r1 = callAndParse(buildUrl(q1, page, numPages));
-        if (!r1.isEmpty()) return r1;
 
         // 2) Back off: keep only keyword + location + remote/hybrid
         String q2 = buildQuery(keyword, location, null, null, false, remote, hybrid);
-        List<ExternalJobDto> r2 = callAndParse(buildUrl(q2, page, numPages));
-        if (!r2.isEmpty()) return r2;
 
         // 3) Last resort: keyword only
         String q3 = keyword.trim();
-        return callAndParse(buildUrl(q3, page, numPages));
+
+        return distinctTiers(new Tier("q1", q1), new Tier("q2", q2), new Tier("q3", q3));
+    }
+
+    private CompletableFuture<TierResult> resolveTier(List<Tier> tiers, int page, int numPages, SearchMode mode) {
+        CompletableFuture<TierResult> result = mode == SearchMode.SPECULATIVE
+                ? searchSpeculative(tiers, page, numPages)
+                : searchSequential(tiers, 0, page, numPages);
+        return result.whenComplete((r, ex) -> {
+            if (r != null) {
+                countTier(r.jobs().isEmpty() ? "none" : r.tier().name(), mode);
+            }
+        });
+    }
+
+    private CompletableFuture<TierResult> searchSequential(List<Tier> tiers, int index, int page, int numPages) {
+        Tier tier = tiers.get(index);
+        return timeTier(tier, SearchMode.SEQUENTIAL, callAndParse(tier.query(), page, numPages))
+                .thenCompose(results -> results.jobs().isEmpty() && index + 1 < tiers.size()
+                        ? searchSequential(tiers, index + 1, page, numPages)
+                        : CompletableFuture.completedFuture(new TierResult(tier, results.jobs(), results.stale())));
+    }
+
+    private CompletableFuture<TierResult> searchSpeculative(List<Tier> tiers, int page, int numPages) {
+        List<CompletableFuture<ExternalJobResults>> calls = new ArrayList<>();
+        for (int i = 0; i < tiers.size(); i++) {
+            Tier tier = tiers.get(i);
+            // q1 is always awaited, so it can share in-flight loads; the fallback tiers may be
+            // cancelled, so they run on their own and only land in the cache once complete
+            CompletableFuture<ExternalJobResults> call = i == 0
+                    ? callAndParse(tier.query(), page, numPages)
+                    : callUncoalesced(tier.query(), page, numPages);
+            calls.add(timeTier(tier, SearchMode.SPECULATIVE, call));
+        }
+        return firstNonEmpty(tiers, calls, 0)
+                .whenComplete((result, ex) -> calls.subList(1, calls.size()).forEach(call -> call.cancel(true)));
+    }
+
+    // A later tier's answer is only usable once every earlier one came back empty
+    private static CompletableFuture<TierResult> firstNonEmpty(
+            List<Tier> tiers, List<CompletableFuture<ExternalJobResults>> calls, int index) {
+        return calls.get(index).thenCompose(results -> !results.jobs().isEmpty() || index + 1 == calls.size()
+                ? CompletableFuture.completedFuture(new TierResult(tiers.get(index), results.jobs(), results.stale()))
+                : firstNonEmpty(tiers, calls, index + 1));
+    }
+
+    private CompletableFuture<Void> fanOut(List<Tier> tiers, int page, int numPages, SearchMode mode,
+                                           int parallelism, Consumer<ExternalJobPage> onPage) {
+        int firstPage = Math.max(page, 1);
+        int lastPage = firstPage + Math.max(numPages, 1) - 1;
+
+        // The first page decides which fallback tier the rest of the range is fetched with
+        return resolveTier(tiers, firstPage, 1, mode).thenCompose(first -> {
+            onPage.accept(new ExternalJobPage(firstPage, first.jobs(), first.stale()));
+            if (first.jobs().isEmpty() || firstPage == lastPage) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            AtomicInteger nextPage = new AtomicInteger(firstPage + 1);
+            AtomicBoolean exhausted = new AtomicBoolean();
+            int lanes = Math.min(Math.min(Math.max(parallelism, 1), maxFanOutParallelism), lastPage - firstPage);
+            CompletableFuture<?>[] running = new CompletableFuture<?>[lanes];
+            for (int i = 0; i < lanes; i++) {
+                running[i] = fetchPages(first.tier().query(), nextPage, lastPage, exhausted, onPage);
+            }
+            return CompletableFuture.allOf(running);
+        });
+    }
+
+    // Each lane keeps pulling the next unfetched page until the range is done or JSearch runs dry
+    private CompletableFuture<Void> fetchPages(String query, AtomicInteger nextPage, int lastPage,
+                                               AtomicBoolean exhausted, Consumer<ExternalJobPage> onPage) {
+        int p = nextPage.getAndIncrement();
+        if (p > lastPage || exhausted.get()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return callAndParse(query, p, 1).thenCompose(results -> {
+            if (results.jobs().isEmpty()) {
+                exhausted.set(true);
+            } else {
+                onPage.accept(new ExternalJobPage(p, results.jobs(), results.stale()));
+            }
+            return fetchPages(query, nextPage, lastPage, exhausted, onPage);
+        });
+    }
+
+    // Jobs without an applyUrl can't be matched, so they always pass
+    private static List<ExternalJobDto> dedupeByApplyUrl(List<ExternalJobDto> jobs, Set<String> seen) {
+        List<ExternalJobDto> unique = new ArrayList<>(jobs.size());
+        for (ExternalJobDto job : jobs) {
+            String key = ApplyUrlKey.of(job.applyUrl());
+            if (key == null || seen.add(key)) {
+                unique.add(job);
+            }
+        }
+        return unique;
+    }
+
+    // Without experience/skills/military filters q1 and q2 are the same query; don't ask twice
+    private static List<Tier> distinctTiers(Tier... tiers) {
+        Set<String> seen = new HashSet<>();
+        List<Tier> distinct = new ArrayList<>();
+        for (Tier tier : tiers) {
+            if (seen.add(JsearchResponseCache.normalize(tier.query()))) {
+                distinct.add(tier);
+            }
+        }
+        return distinct;
+    }
+
+    private <T> CompletableFuture<T> timeTier(Tier tier, SearchMode mode, CompletableFuture<T> call) {
+        Timer timer = Timer.builder("jsearch.tier.latency")
+                .description("Latency of one fallback tier of /external/search2")
+                .tag("tier", tier.name())
+                .tag("mode", mode.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        call.whenComplete((results, ex) -> sample.stop(timer));
+        return call;
+    }
+
+    // Which fallback tier answered a search ("none" when every tier came back empty)
+    private void countTier(String tier, SearchMode mode) {
+        Counter.builder("jsearch.tier.results")
+                .description("Searches answered by each fallback tier of /external/search2")
+                .tag("tier", tier)
+                .tag("mode", mode.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void recordRequest(Timer.Sample sample, String status) {
+        sample.stop(Timer.builder("jsearch.request")
+                .description("One JSearch HTTP exchange, from send until the body is parsed")
+                .tag("status", status)
+                .register(meterRegistry));
     }
 
+    record Tier(String name, String query) {}
+
+    private record TierResult(Tier tier, List<ExternalJobDto> jobs, boolean stale) {}
+
     private String buildUrl(String query, int page, int numPages) {
         return UriComponentsBuilder
-                .fromUriString("https://jsearch.p.rapidapi.com/search")
+                .fromUriString(baseUrl)
+                .path("/search")
                 .queryParam("query", query)
                 .queryParam("page", Math.max(page, 1))
                 .queryParam("num_pages", Math.max(numPages, 1))
                 .toUriString();
     }
 
-    private String buildQuery(String keyword,
-                              String location,
-                              ExperienceLevel experience,
-                              String skillsCsv,
-                              boolean military,
-                              boolean remote,
-                              boolean hybrid) {
+    static String buildQuery(String keyword,
+                             String location,
+                             ExperienceLevel experience,
+                             String skillsCsv,
+                             boolean military,
+                             boolean remote,
+                             boolean hybrid) {
         StringBuilder q = new StringBuilder();
         q.append(keyword.trim());
 
@@ -180,56 +474,187 @@ public class ExternalJobService {
     }
 
 
-    private List<ExternalJobDto> callAndParse(String url) {
+    // Serves repeated query/page combinations from the cache; only misses go upstream
+    private CompletableFuture<ExternalJobResults> callAndParse(String query, int page, int numPages) {
         if (apiKey == null || apiKey.isBlank()) {
             throw new IllegalStateException("Missing RapidAPI key. Set the JSEARCH_API_KEY environment variable.");
         }
+        return withStaleFallback(query, page, numPages,
+                responseCache.get(query, page, numPages, () -> fetch(buildUrl(query, page, numPages))));
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("X-RapidAPI-Key", apiKey);
-        headers.set("X-RapidAPI-Host", apiHost);
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+    // Like callAndParse, but never waits on (or is waited on by) another caller's in-flight request,
+    // so cancelling the returned future only ever aborts this caller's exchange
+    private CompletableFuture<ExternalJobResults> callUncoalesced(String query, int page, int numPages) {
+        if (apiKey == null || apiKey.isBlank()) {
+            throw new IllegalStateException("Missing RapidAPI key. Set the JSEARCH_API_KEY environment variable.");
+        }
+        CompletableFuture<List<ExternalJobDto>> cached = responseCache.getIfPresent(query, page, numPages);
+        if (cached != null) return withStaleFallback(query, page, numPages, cached.copy());
+
+        CompletableFuture<List<ExternalJobDto>> results = fetch(buildUrl(query, page, numPages));
+        results.thenAccept(jobs -> responseCache.put(query, page, numPages, jobs));
+        CompletableFuture<ExternalJobResults> guarded = withStaleFallback(query, page, numPages, results);
+        guarded.whenComplete((r, ex) -> {
+            if (ex instanceof CancellationException) {
+                results.cancel(true);
+            }
+        });
+        return guarded;
+    }
 
-        HttpEntity<String> entity = new HttpEntity<>(headers);
+    // While JSearch is rejecting, throttling or failing, answer with the last good result for the
+    // query (marked stale) rather than an error; with nothing to fall back on, the failure stands
+    private CompletableFuture<ExternalJobResults> withStaleFallback(String query, int page, int numPages,
+                                                                    CompletableFuture<List<ExternalJobDto>> call) {
+        return call.thenApply(jobs -> new ExternalJobResults(jobs, false))
+                .exceptionallyCompose(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    List<ExternalJobDto> stale = cause instanceof CancellationException
+                            ? null : responseCache.getStale(query, page, numPages);
+                    if (stale == null) {
+                        return CompletableFuture.failedFuture(cause);
+                    }
+                    String reason = cause instanceof CallNotPermittedException ? "circuit_open"
+                            : JsearchUpstreamGuard.isRejection(cause) ? "rate_limited" : "upstream_error";
+                    meterRegistry.counter("jsearch.stale.served", "reason", reason).increment();
+                    log.warn("Serving stale JSearch results for '{}' page {} ({}): {}", query, page, reason, cause.toString());
+                    return CompletableFuture.completedFuture(new ExternalJobResults(stale, true));
+                });
+    }
 
+    // One upstream GET, parsed; package-private so tests can drive a single exchange
+    CompletableFuture<List<ExternalJobDto>> fetch(String url) {
+        long permit;
         try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            permit = upstreamGuard.acquire();
+        } catch (RuntimeException rejected) {
+            return CompletableFuture.failedFuture(rejected);
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("X-RapidAPI-Key", apiKey)
+                .header("X-RapidAPI-Host", apiHost)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .GET()
+                .build();
+
+        // The body is consumed with blocking reads, so parse on our own pool rather than the client's
+        Timer.Sample sample = Timer.start(meterRegistry);
+        // The handler, the deadline or a cancel: whichever ends the call first records it and reports it to the guard
+        AtomicBoolean settled = new AtomicBoolean();
+        CompletableFuture<HttpResponse<InputStream>> exchange =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+        CompletableFuture<List<ExternalJobDto>> results = exchange.handleAsync((response, ex) -> {
+            if (ex != null) {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                JsearchException failure = new JsearchException(0, "External API request failed: " + cause, cause);
+                if (settled.compareAndSet(false, true)) {
+                    recordRequest(sample, cause instanceof HttpTimeoutException ? "TIMEOUT" : "IO_ERROR");
+                    upstreamGuard.onFailure(permit, failure);
+                }
+                throw failure;
+            }
+            List<ExternalJobDto> jobs;
+            try {
+                jobs = parse(response);
+            } catch (RuntimeException e) {
+                if (settled.compareAndSet(false, true)) {
+                    recordRequest(sample, String.valueOf(response.statusCode()));
+                    upstreamGuard.onFailure(permit, e);
+                }
+                throw e;
+            }
+            if (settled.compareAndSet(false, true)) {
+                recordRequest(sample, String.valueOf(response.statusCode()));
+                upstreamGuard.onSuccess(permit);
+            }
+            return jobs;
+        }, parseExecutor);
+        results.thenAccept(jobCatalog::record);
+
+        // The whole exchange, body included, within readTimeout. Not HttpRequest.timeout: that only
+        // promises the headers, and racing it would make the outcome (and its metric) a coin toss
+        ScheduledFuture<?> deadline = deadlines.schedule(() -> {
+            if (settled.compareAndSet(false, true)) {
+                JsearchException timeout = new JsearchException(0, "External API response not read within " + readTimeout, null);
+                recordRequest(sample, "TIMEOUT");
+                upstreamGuard.onFailure(permit, timeout);
+                results.completeExceptionally(timeout);
+            }
+        }, readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        results.whenComplete((jobs, ex) -> {
+            deadline.cancel(false);
+            if (ex == null) {
+                return;
+            }
+            if (ex instanceof CancellationException && settled.compareAndSet(false, true)) {
+                upstreamGuard.onCancelled();
+                recordRequest(sample, "CANCELLED");
+            }
+            // Cancelled or past the deadline: the handler either never runs (so nothing else would
+            // close the body and free the connection) or is blocked reading it, which closing ends
+            exchange.cancel(true);
+            exchange.thenAccept(response -> closeQuietly(response.body()));
+        });
+        return results;
+    }
 
-            // Debug log for troubleshooting
-//            String body = response.getBody();
-//            System.out.println("Raw response (first 600 chars): " +
-//                    body.substring(0, Math.min(600, body.length())));
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException ignored) {
+            // the exchange is being abandoned anyway
+        }
+    }
 
-            JsonNode root = objectMapper.readTree(response.getBody());
-            JsonNode data = root.path("data");
+    // Reads the body as it arrives; never buffers it into a String or a JsonNode tree
+    private List<ExternalJobDto> parse(HttpResponse<InputStream> response) {
+        CountingInputStream body = new CountingInputStream(response.body());
+        try (body) {
+            if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                throw new JsearchException(response.statusCode(), "External API error: " + response.statusCode() + " - "
+                        + new String(body.readAllBytes(), StandardCharsets.UTF_8), null);
+            }
+            List<ExternalJobDto> jobs = responseParser.parse(body);
+            responseJobs.record(jobs.size());
+            return jobs;
+        } catch (IOException ex) {
+            throw new JsearchException(0, "Failed to parse external jobs: " + ex.getMessage(), ex);
+        } finally {
+            responseBytes.record(body.count);
+        }
+    }
 
-            List<ExternalJobDto> results = new ArrayList<>();
-            if (data.isArray()) {
-                for (JsonNode n : data) {
-                    String title   = n.path("job_title").asText(null);
-                    String company = n.path("employer_name").asText(null);
+    // Content-Length is often absent on chunked responses, so count what the parser actually reads
+    private static final class CountingInputStream extends FilterInputStream {
 
-                    String city    = n.path("job_city").asText("");
-                    String state   = n.path("job_state").asText("");
-                    String country = n.path("job_country").asText("");
+        private long count;
 
-                    String location =
-                            java.util.stream.Stream.of(city, state, country)
-                                    .filter(s -> s != null && !s.isBlank())
-                                    .collect(Collectors.joining(", "));
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
 
-                    String applyUrl = n.path("job_apply_link").asText(null);
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
 
-                    results.add(new ExternalJobDto(title, company, location, applyUrl));
-                }
-            }
-            return results;
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
 
-        } catch (RestClientResponseException ex) {
-            throw new RuntimeException(
-                    "External API error: " + ex.getStatusCode().value() + " - " + ex.getResponseBodyAsString(), ex);
-        } catch (Exception ex) {
-            throw new RuntimeException("Failed to parse external jobs: " + ex.getMessage(), ex);
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,141 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.dto.ApplyJobRequest;
+import com.jerome.jobtracker.dto.BatchItemResult;
+import com.jerome.jobtracker.dto.BatchItemResult.Outcome;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.ApplyUrlKey;
+import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch versions of /save and /apply. Each batch runs the duplicate checks for all of its
+ * URLs up front and writes every row in one transaction (one commit/fsync for the batch);
+ * per-item outcomes mirror what the single-item endpoints would have done in order.
+ */
+@Service
+public class JobBatchService {
+
+    // Keeps each IN (...) well under SQLite's bound-parameter limit
+    private static final int LOOKUP_CHUNK = 500;
+
+    private final JobApplicationRepository repository;
+
+    public JobBatchService(JobApplicationRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional
+    public List<BatchItemResult> saveAll(List<ApplyJobRequest> requests) {
+        Map<String, List<JobApplication>> existing = existingByUrl(requests);
+
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+        List<JobApplication> toSave = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ApplyJobRequest req = requests.get(i);
+            String key = ApplyUrlKey.of(req.applyUrl());
+            if (key != null && hasStatus(existing.get(key), ApplicationStatus.SAVED)) {
+                results.add(new BatchItemResult(i, req.applyUrl(), Outcome.CONFLICT, null, "Already saved"));
+                continue;
+            }
+
+            JobApplication j = new JobApplication();
+            j.setPosition(req.position());
+            j.setCompany(req.company());
+            j.setLocation(req.location());
+            j.setApplyUrl(req.applyUrl());
+            j.setSource(req.source() != null ? req.source() : "JSEARCH");
+            j.setNotes(req.notes());
+            j.setStatus(ApplicationStatus.SAVED);
+            j.setAppliedDate(null);
+            toSave.add(j);
+            track(existing, key, j);
+            results.add(new BatchItemResult(i, req.applyUrl(), Outcome.CREATED, j, null));
+        }
+        repository.saveAll(toSave);
+        return results;
+    }
+
+    @Transactional
+    public List<BatchItemResult> applyAll(List<ApplyJobRequest> requests) {
+        Map<String, List<JobApplication>> existing = existingByUrl(requests);
+
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+        List<JobApplication> toSave = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ApplyJobRequest req = requests.get(i);
+            String key = ApplyUrlKey.of(req.applyUrl());
+            List<JobApplication> matches = key != null ? existing.get(key) : null;
+
+            if (hasStatus(matches, ApplicationStatus.APPLIED)) {
+                results.add(new BatchItemResult(i, req.applyUrl(), Outcome.CONFLICT, null, "Already applied"));
+                continue;
+            }
+
+            // If it exists as SAVED, promote it to APPLIED
+            if (matches != null && !matches.isEmpty()) {
+                JobApplication j = matches.get(0);
+                j.setStatus(ApplicationStatus.APPLIED);
+                j.setAppliedDate(LocalDate.now());
+                toSave.add(j);
+                results.add(new BatchItemResult(i, req.applyUrl(), Outcome.PROMOTED, j, null));
+                continue;
+            }
+
+            JobApplication j = new JobApplication();
+            j.setPosition(req.position());
+            j.setCompany(req.company());
+            j.setLocation(req.location());
+            j.setApplyUrl(req.applyUrl());
+            j.setSource("JSEARCH");
+            j.setStatus(ApplicationStatus.APPLIED);
+            j.setAppliedDate(LocalDate.now());
+            toSave.add(j);
+            track(existing, key, j);
+            results.add(new BatchItemResult(i, req.applyUrl(), Outcome.CREATED, j, null));
+        }
+        repository.saveAll(toSave);
+        return results;
+    }
+
+    // One indexed lookup for the whole batch: every stored row whose URL key matches one of the requests
+    private Map<String, List<JobApplication>> existingByUrl(List<ApplyJobRequest> requests) {
+        List<String> keys = requests.stream()
+                .map(req -> ApplyUrlKey.of(req.applyUrl()))
+                .filter(key -> key != null)
+                .distinct()
+                .toList();
+
+        Map<String, List<JobApplication>> byUrl = new HashMap<>();
+        for (int from = 0; from < keys.size(); from += LOOKUP_CHUNK) {
+            Collection<String> chunk = keys.subList(from, Math.min(from + LOOKUP_CHUNK, keys.size()));
+            for (JobApplication j : repository.findByApplyUrlKeyIn(chunk)) {
+                track(byUrl, j.getApplyUrlKey(), j);
+            }
+        }
+        // findFirstByApplyUrlKeyOrderByIdAsc picks the oldest row; keep that one first
+        byUrl.values().forEach(rows -> rows.sort(Comparator.comparing(JobApplication::getId,
+                Comparator.nullsLast(Comparator.naturalOrder()))));
+        return byUrl;
+    }
+
+    private static void track(Map<String, List<JobApplication>> byUrl, String key, JobApplication j) {
+        if (key != null) {
+            byUrl.computeIfAbsent(key, k -> new ArrayList<>()).add(j);
+        }
+    }
+
+    private static boolean hasStatus(List<JobApplication> rows, ApplicationStatus status) {
+        return rows != null && rows.stream().anyMatch(j -> j.getStatus() == status);
+    }
+}
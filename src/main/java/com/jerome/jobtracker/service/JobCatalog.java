@@ -0,0 +1,149 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.dto.ExternalJobDto;
+import com.jerome.jobtracker.repository.JobCatalogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Local catalog of every job JSearch has returned, de-duplicated by applyUrl. Upstream results
+ * are recorded in the background through SqliteWriter; /external/search2 asks {@link #find} first
+ * and only goes to JSearch when the catalog has less than the requested page range seen within
+ * max-age. Lookups run on their own small pool, so a slow match never holds a request thread.
+ */
+@Service
+public class JobCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(JobCatalog.class);
+
+    private final JobCatalogRepository repository;
+    private final SqliteWriter writer;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final int pageSize;
+    private final ExecutorService recorder; // keeps catalog writes off the JSearch response path
+    private final ExecutorService lookups; // runs find's query off the request thread
+    private final Counter hits;
+    private final Counter misses;
+
+    public JobCatalog(JobCatalogRepository repository,
+                      SqliteWriter writer,
+                      MeterRegistry meterRegistry,
+                      @Value("${external.jsearch.catalog.enabled:true}") boolean enabled,
+                      @Value("${external.jsearch.catalog.max-age:6h}") Duration maxAge,
+                      @Value("${external.jsearch.catalog.page-size:10}") int pageSize,
+                      @Value("${external.jsearch.catalog.lookup-threads:4}") int lookupThreads) {
+        this.repository = repository;
+        this.writer = writer;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.pageSize = pageSize;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jsearch-catalog-");
+        threadFactory.setDaemon(true);
+        // A full queue makes the caller record inline: slower, but nothing is dropped
+        this.recorder = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(256),
+                threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+
+        CustomizableThreadFactory lookupThreadFactory = new CustomizableThreadFactory("jsearch-catalog-lookup-");
+        lookupThreadFactory.setDaemon(true);
+        this.lookups = Executors.newFixedThreadPool(Math.max(lookupThreads, 1), lookupThreadFactory);
+
+        this.hits = Counter.builder("jsearch.catalog.lookups")
+                .description("/external/search2 lookups answered by the local catalog (hit) or sent upstream (miss)")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("jsearch.catalog.lookups")
+                .description("/external/search2 lookups answered by the local catalog (hit) or sent upstream (miss)")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    // Recording is best-effort: drop what's still queued rather than write after the database has gone
+    @PreDestroy
+    void shutdownRecorder() throws InterruptedException {
+        lookups.shutdownNow();
+        recorder.shutdownNow();
+        recorder.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    public void record(List<ExternalJobDto> jobs) {
+        if (!enabled || jobs.isEmpty()) return;
+        long seenAt = System.currentTimeMillis();
+        recorder.execute(() -> {
+            try {
+                writer.run(() -> repository.upsert(jobs, seenAt));
+            } catch (RuntimeException ex) {
+                log.warn("Could not record {} jobs in the catalog: {}", jobs.size(), ex.toString());
+            }
+        });
+    }
+
+    /**
+     * The page range as JSearch would page it ({@code page-size} jobs per page), or null when the
+     * catalog can't fill all of it from postings seen within max-age.
+     */
+    public CompletableFuture<List<ExternalJobDto>> find(String keyword, String location, boolean remote, boolean hybrid,
+                                                        int page, int numPages) {
+        if (!enabled) return CompletableFuture.completedFuture(null);
+        String match = toMatchExpression(keyword, location, remote, hybrid);
+        if (match == null) return CompletableFuture.completedFuture(null);
+
+        int limit = Math.max(numPages, 1) * pageSize;
+        int offset = (Math.max(page, 1) - 1) * pageSize;
+        long seenSince = System.currentTimeMillis() - maxAge.toMillis();
+        return CompletableFuture.supplyAsync(() -> {
+            List<ExternalJobDto> jobs = repository.search(match, seenSince, offset, limit);
+            if (jobs.size() < limit) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return jobs;
+        }, lookups);
+    }
+
+    // Same words JSearch gets from buildQuery: every keyword in any column, location words in the
+    // location column, and remote/hybrid as plain words
+    static String toMatchExpression(String keyword, String location, boolean remote, boolean hybrid) {
+        List<String> terms = new ArrayList<>(tokens(keyword));
+        if (terms.isEmpty()) return null;
+        tokens(location).forEach(token -> terms.add("location : " + token));
+        if (remote && hybrid) {
+            terms.add("(\"remote\"* OR \"hybrid\"*)");
+        } else if (remote) {
+            terms.add("\"remote\"*");
+        } else if (hybrid) {
+            terms.add("\"hybrid\"*");
+        }
+        return String.join(" AND ", terms);
+    }
+
+    // Each word quoted (so operators/quotes can't break the query) and prefix-matched, as in JobSearchService
+    private static List<String> tokens(String text) {
+        if (text == null) return List.of();
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .map(token -> "\"" + token + "\"*")
+                .collect(Collectors.toList());
+    }
+}
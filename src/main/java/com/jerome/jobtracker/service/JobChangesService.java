@@ -0,0 +1,121 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.dto.JobApplicationView;
+import com.jerome.jobtracker.dto.JobChanges;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import com.jerome.jobtracker.repository.JobApplicationViews.ChangedView;
+import com.jerome.jobtracker.repository.JobChangeLogRepository;
+import com.jerome.jobtracker.repository.JobChangeLogRepository.Tombstone;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta sync for clients that keep a local copy of the job list: everything that changed after
+ * the version they last saw, read through the change_version index and the tombstone table
+ * (see JobChangeLogSchema) instead of the whole table.
+ * <p>
+ * Tombstones are kept for tombstone-retention and then pruned. A client whose version is older
+ * than the newest pruned tombstone could be missing deletes, so it gets a reset instead of a
+ * delta: every application, paged by id, to replace its copy with. since=0 is answered the same
+ * way, since paging a first sync up from 0 would soon ask for versions below the pruned ones.
+ * Every reset page carries the version read when the reset began, and the delta from there picks
+ * up whatever changed while the client was paging.
+ */
+@Service
+public class JobChangesService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobChangesService.class);
+
+    private final JobApplicationRepository repository;
+    private final JobChangeLogRepository changeLog;
+    private final SqliteWriter writer;
+    private final int maxLimit;
+    private final Duration tombstoneRetention;
+
+    public JobChangesService(JobApplicationRepository repository,
+                             JobChangeLogRepository changeLog,
+                             SqliteWriter writer,
+                             @Value("${jobtracker.page.max-limit:500}") int maxLimit,
+                             @Value("${jobtracker.changes.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.repository = repository;
+        this.changeLog = changeLog;
+        this.writer = writer;
+        this.maxLimit = maxLimit;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    // One transaction so both reads see the same snapshot; otherwise a write landing between
+    // them could be skipped by a version taken from the second read
+    @Transactional(readOnly = true)
+    public JobChanges changesSince(long since, Long after, Integer limit) {
+        int pageSize = limit == null ? maxLimit : Math.max(1, Math.min(limit, maxLimit));
+        if (after != null) {
+            return resetPage(since, after, pageSize);
+        }
+        if (since <= 0 || since < changeLog.prunedThrough()) {
+            return resetPage(changeLog.currentVersion(), 0, pageSize);
+        }
+
+        List<ChangedView> rows = repository.findChangedAfter(since, pageSize + 1);
+        List<Tombstone> tombstones = changeLog.deletedAfter(since, pageSize + 1);
+
+        // Merge both by version and stop at pageSize, so version never skips over an unsent change
+        List<JobApplicationView> upserted = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        long version = since;
+        int r = 0;
+        int t = 0;
+        while (upserted.size() + deleted.size() < pageSize && (r < rows.size() || t < tombstones.size())) {
+            boolean takeRow = t == tombstones.size()
+                    || (r < rows.size() && rows.get(r).changeVersion() < tombstones.get(t).changeVersion());
+            if (takeRow) {
+                ChangedView row = rows.get(r++);
+                upserted.add(row.view());
+                version = row.changeVersion();
+            } else {
+                Tombstone tombstone = tombstones.get(t++);
+                deleted.add(tombstone.id());
+                version = tombstone.changeVersion();
+            }
+        }
+        boolean hasMore = r < rows.size() || t < tombstones.size();
+        return new JobChanges(version, upserted, deleted, hasMore, false, null);
+    }
+
+    // One reset page of rows with ids above after. version stays the snapshot the reset started from:
+    // rows written while the client pages get newer change versions, so the delta after it resends them
+    private JobChanges resetPage(long snapshot, long after, int pageSize) {
+        List<JobApplicationView> rows = repository.findViews(
+                (root, query, cb) -> cb.greaterThan(root.get("id"), after), Sort.by("id"), pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new JobChanges(snapshot, rows, List.of(), false, true, null);
+        }
+        List<JobApplicationView> page = rows.subList(0, pageSize);
+        return new JobChanges(snapshot, page, List.of(), true, true, page.get(page.size() - 1).id());
+    }
+
+    @Scheduled(initialDelayString = "${jobtracker.changes.prune.initial-delay:10m}",
+            fixedDelayString = "${jobtracker.changes.prune.interval:1d}")
+    public void pruneTombstones() {
+        long cutoff = Instant.now().minus(tombstoneRetention).getEpochSecond();
+        int pruned = writer.write(() -> changeLog.pruneDeletedBefore(cutoff));
+        if (pruned > 0) {
+            log.info("Pruned {} tombstones of deletes older than {}", pruned, tombstoneRetention);
+        }
+    }
+
+    // Same value for every list until the next write, so it can back an ETag without reading the list
+    public long currentVersion() {
+        return changeLog.currentVersion();
+    }
+}
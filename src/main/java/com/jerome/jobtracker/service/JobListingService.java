@@ -0,0 +1,127 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.dto.JobApplicationView;
+import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Keyset (cursor) pagination for the job listing endpoints. Each page is one indexed
+ * "after this key" query with a LIMIT, so cost doesn't grow with how deep the client pages.
+ * The continuation token is opaque to clients; it encodes the sort and the last row's key.
+ * Pages are JobApplicationView projections read in a read-only transaction, so a listing
+ * never builds managed entities the response would only serialize and drop.
+ * <p>
+ * Every request is paged: without a limit it gets the default page size, so no listing reads the
+ * whole table. The default sort is by id, oldest first, the order these endpoints always used.
+ */
+@Service
+public class JobListingService {
+
+    public enum SortKey {
+        ID,           // oldest first
+        APPLIED_DATE  // most recently applied first, undated rows last, ties newest first
+    }
+
+    public record JobPage(List<JobApplicationView> items, String nextCursor) {}
+
+    private final JobApplicationRepository repository;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public JobListingService(JobApplicationRepository repository,
+                             @Value("${jobtracker.page.default-limit:100}") int defaultLimit,
+                             @Value("${jobtracker.page.max-limit:500}") int maxLimit) {
+        this.repository = repository;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Transactional(readOnly = true)
+    public JobPage list(Specification<JobApplication> filter, String sort, String cursor, Integer limit) {
+        SortKey sortKey = parseSort(sort);
+        int pageSize = limit == null ? defaultLimit : Math.max(1, Math.min(limit, maxLimit));
+
+        Specification<JobApplication> spec = filter;
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(after(Cursor.decode(cursor, sortKey)));
+        }
+
+        // One extra row tells us whether there is another page without a count query
+        List<JobApplicationView> rows = repository.findViews(spec, order(sortKey), pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new JobPage(rows, null);
+        }
+        List<JobApplicationView> page = rows.subList(0, pageSize);
+        JobApplicationView last = page.get(page.size() - 1);
+        return new JobPage(page, new Cursor(sortKey, last.appliedDate(), last.id()).encode());
+    }
+
+    private static Sort order(SortKey sortKey) {
+        return switch (sortKey) {
+            case ID -> Sort.by(Sort.Order.asc("id"));
+            // SQLite orders NULL below every value, so undated rows already come last in DESC
+            case APPLIED_DATE -> Sort.by(Sort.Order.desc("appliedDate"), Sort.Order.desc("id"));
+        };
+    }
+
+    // Rows strictly after the cursor in the sort order
+    private static Specification<JobApplication> after(Cursor c) {
+        return (root, query, cb) -> {
+            if (c.sort() == SortKey.ID) {
+                return cb.greaterThan(root.get("id"), c.id());
+            }
+            if (c.appliedDate() == null) {
+                return cb.and(cb.isNull(root.get("appliedDate")), cb.lessThan(root.get("id"), c.id()));
+            }
+            return cb.or(
+                    cb.lessThan(root.get("appliedDate"), c.appliedDate()),
+                    cb.and(cb.equal(root.get("appliedDate"), c.appliedDate()), cb.lessThan(root.get("id"), c.id())),
+                    cb.isNull(root.get("appliedDate")));
+        };
+    }
+
+    private static SortKey parseSort(String raw) {
+        if (raw == null || raw.isBlank()) return SortKey.ID;
+        String norm = raw.trim().replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+        try {
+            return SortKey.valueOf(norm);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown sort: " + raw);
+        }
+    }
+
+    private record Cursor(SortKey sort, LocalDate appliedDate, long id) {
+
+        String encode() {
+            String raw = sort + "|" + (appliedDate == null ? "" : appliedDate.toEpochDay()) + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String token, SortKey expected) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+                SortKey sort = SortKey.valueOf(parts[0]);
+                if (sort != expected || parts.length != 3) {
+                    throw new IllegalArgumentException("cursor belongs to a different sort");
+                }
+                LocalDate date = parts[1].isEmpty() ? null : LocalDate.ofEpochDay(Long.parseLong(parts[1]));
+                return new Cursor(sort, date, Long.parseLong(parts[2]));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.dto.JobApplicationView;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Unified job search over the FTS5 index (see JobSearchIndex). Every word in the query must
+ * match as a prefix in company, position, location or notes; results are ranked by BM25 with
+ * position and company weighted above location and notes.
+ */
+@Service
+public class JobSearchService {
+
+    private final JobApplicationRepository repository;
+    private final int maxLimit;
+
+    public JobSearchService(JobApplicationRepository repository,
+                            @Value("${jobtracker.page.max-limit:500}") int maxLimit) {
+        this.repository = repository;
+        this.maxLimit = maxLimit;
+    }
+
+    @Transactional(readOnly = true)
+    public List<JobApplicationView> search(String q, ApplicationStatus status, LocalDate appliedFrom, LocalDate appliedTo, int limit) {
+        String match = toMatchExpression(q);
+        if (match == null) return List.of();
+        return repository.searchFullText(match,
+                status == null ? null : status.name(),
+                appliedFrom, appliedTo, Math.max(1, Math.min(limit, maxLimit)));
+    }
+
+    // User text -> FTS5 syntax: each word quoted (so operators/quotes can't break the query) and prefix-matched
+    static String toMatchExpression(String q) {
+        if (q == null) return null;
+        String match = Arrays.stream(q.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .map(token -> "\"" + token + "\"*")
+                .collect(Collectors.joining(" "));
+        return match.isEmpty() ? null : match;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.dto.JobStats;
+import com.jerome.jobtracker.dto.JobStats.Bucket;
+import com.jerome.jobtracker.dto.JobStats.BucketCount;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.repository.JobStatsRepository;
+import com.jerome.jobtracker.repository.JobStatsRepository.DayCount;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Pipeline statistics from the aggregates JobStatsSchema keeps up to date on every write, so
+ * the cost depends on the number of statuses and distinct applied dates, not on the number of
+ * job applications.
+ */
+@Service
+public class JobStatsService {
+
+    private final JobStatsRepository repository;
+
+    public JobStatsService(JobStatsRepository repository) {
+        this.repository = repository;
+    }
+
+    // from/to (inclusive, either may be null) limit the applied buckets, not the status counts
+    public JobStats stats(Bucket bucket, LocalDate from, LocalDate to) {
+        Map<ApplicationStatus, Long> byStatus = repository.countByStatus();
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+
+        Map<LocalDate, Long> buckets = new TreeMap<>();
+        for (DayCount day : repository.countByAppliedDate()) {
+            if (from != null && day.day().isBefore(from)) continue;
+            if (to != null && day.day().isAfter(to)) continue;
+            buckets.merge(start(bucket, day.day()), day.count(), Long::sum);
+        }
+        List<BucketCount> applied = buckets.entrySet().stream()
+                .map(entry -> new BucketCount(entry.getKey(), entry.getValue()))
+                .toList();
+        return new JobStats(byStatus, total, bucket, applied);
+    }
+
+    private static LocalDate start(Bucket bucket, LocalDate day) {
+        return switch (bucket) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+}
@@ -0,0 +1,225 @@
+package com.jerome.jobtracker.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jerome.jobtracker.dto.ImportResult;
+import com.jerome.jobtracker.dto.ImportResult.LineError;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.repository.JobTransferRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk export and import of job applications with memory bounded by chunk-size, however many
+ * rows there are. Export reads keyset chunks in id order and writes each one out before reading
+ * the next; import parses the body one line at a time and commits every chunk-size rows. A line
+ * longer than max-line-length characters is skipped and reported rather than buffered.
+ */
+@Service
+public class JobTransferService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final int MAX_ERRORS = 100;
+    private static final String CSV_HEADER = "id,company,position,status,appliedDate,location,applyUrl,source,notes";
+
+    private final JobTransferRepository repository;
+    private final SqliteWriter writer;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter jsonWriter;
+    private final ObjectReader jsonReader;
+    private final int chunkSize;
+    private final int maxLineLength;
+
+    public JobTransferService(JobTransferRepository repository,
+                              SqliteWriter writer,
+                              ObjectMapper objectMapper,
+                              @Value("${jobtracker.transfer.chunk-size:1000}") int chunkSize,
+                              @Value("${jobtracker.transfer.max-line-length:65536}") int maxLineLength) {
+        this.repository = repository;
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+        // Flushing is per chunk, not per row
+        this.jsonWriter = objectMapper.writerFor(JobApplication.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.jsonReader = objectMapper.readerFor(JobApplication.class);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxLineLength = Math.max(maxLineLength, 1);
+    }
+
+    // NDJSON lines have the same fields as GET /api/jobs; CSV has a header row with the same names
+    public void export(Format format, OutputStream out) throws IOException {
+        if (format == Format.CSV) {
+            exportCsv(out);
+        } else {
+            exportNdjson(out);
+        }
+    }
+
+    private void exportNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setRootValueSeparator(null); // one value per line, separated by our own newlines
+            long afterId = 0;
+            List<JobApplication> chunk;
+            while (!(chunk = repository.chunkAfter(afterId, chunkSize)).isEmpty()) {
+                for (JobApplication job : chunk) {
+                    jsonWriter.writeValue(json, job);
+                    json.writeRaw('\n');
+                }
+                json.flush();
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        }
+    }
+
+    private void exportCsv(OutputStream out) throws IOException {
+        Writer csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        csv.write(CSV_HEADER);
+        csv.write("\r\n");
+        long afterId = 0;
+        List<JobApplication> chunk;
+        while (!(chunk = repository.chunkAfter(afterId, chunkSize)).isEmpty()) {
+            for (JobApplication job : chunk) {
+                csv.write(String.valueOf(job.getId()));
+                for (Object value : new Object[] {job.getCompany(), job.getPosition(), job.getStatus(), job.getAppliedDate(),
+                        job.getLocation(), job.getApplyUrl(), job.getSource(), job.getNotes()}) {
+                    csv.write(',');
+                    csv.write(csvField(value));
+                }
+                csv.write("\r\n");
+            }
+            csv.flush();
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+    }
+
+    // RFC 4180: quote fields containing a separator, quote or line break, doubling inner quotes
+    static String csvField(Object value) {
+        if (value == null) return "";
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * NDJSON, one application per line in the export's shape. id is ignored (rows get new ids);
+     * a missing status becomes APPLIED when appliedDate is set and SAVED otherwise. Unreadable
+     * lines are counted and reported, and the rest of the body still goes in.
+     */
+    public ImportResult importNdjson(InputStream in) throws IOException {
+        LineReader reader = new LineReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), maxLineLength);
+        List<JobApplication> chunk = new ArrayList<>(chunkSize);
+        List<LineError> errors = new ArrayList<>();
+        long line = 0;
+        long imported = 0;
+        long duplicates = 0;
+        long rejected = 0;
+
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (reader.truncated()) {
+                rejected++;
+                if (errors.size() < MAX_ERRORS) {
+                    errors.add(new LineError(line, "Line is longer than " + maxLineLength + " characters"));
+                }
+                continue;
+            }
+            if (text.isBlank()) continue;
+            try {
+                chunk.add(normalize(jsonReader.readValue(text)));
+            } catch (JsonProcessingException e) {
+                rejected++;
+                if (errors.size() < MAX_ERRORS) {
+                    errors.add(new LineError(line, e.getOriginalMessage()));
+                }
+            }
+            if (chunk.size() == chunkSize) {
+                int inserted = insert(chunk);
+                imported += inserted;
+                duplicates += chunk.size() - inserted;
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            int inserted = insert(chunk);
+            imported += inserted;
+            duplicates += chunk.size() - inserted;
+        }
+        return new ImportResult(imported, duplicates, rejected, errors);
+    }
+
+    // One transaction per chunk: a failure keeps the chunks already committed
+    private int insert(List<JobApplication> chunk) {
+        return writer.write(() -> repository.insertAll(chunk));
+    }
+
+    private static JobApplication normalize(JobApplication job) {
+        job.setId(null);
+        if (job.getStatus() == null) {
+            job.setStatus(job.getAppliedDate() != null ? ApplicationStatus.APPLIED : ApplicationStatus.SAVED);
+        }
+        return job;
+    }
+
+    // BufferedReader.readLine without its unbounded buffer: keeps at most max characters of a line and
+    // skips the rest. Lines end at \n, with a trailing \r dropped; NDJSON escapes both inside values
+    private static final class LineReader {
+
+        private final Reader in;
+        private final int max;
+        private final StringBuilder line = new StringBuilder();
+        private boolean truncated;
+
+        LineReader(Reader in, int max) {
+            this.in = in;
+            this.max = max;
+        }
+
+        // Null at the end of the input
+        String readLine() throws IOException {
+            line.setLength(0);
+            truncated = false;
+            int c = in.read();
+            if (c == -1) return null;
+            while (c != -1 && c != '\n') {
+                if (line.length() < max) {
+                    line.append((char) c);
+                } else if (c != '\r') {
+                    truncated = true;
+                }
+                c = in.read();
+            }
+            if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            return line.toString();
+        }
+
+        // Whether the line readLine just returned was cut off at max
+        boolean truncated() {
+            return truncated;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.jerome.jobtracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jerome.jobtracker.dto.BulkJobRequest;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes that don't need the whole row from the client. Bulk status changes and deletes are one
+ * UPDATE/DELETE statement for every matching row, whatever the count; the SQLite triggers still
+ * see each row, so the full-text index, stats and change log stay in step. PATCH writes only
+ * the fields sent (JobApplication is @DynamicUpdate) and can be made conditional on version.
+ */
+@Service
+public class JobUpdateService {
+
+    // Fields a PATCH can't set: identity, the optimistic lock itself and derived columns
+    private static final List<String> READ_ONLY = List.of("id", "version", "changeVersion", "applyUrlKey");
+
+    private final JobApplicationRepository repository;
+    private final EntityManager entityManager;
+    private final SqliteWriter writer;
+    private final ObjectMapper objectMapper;
+    private final int maxIds;
+
+    public JobUpdateService(JobApplicationRepository repository,
+                            EntityManager entityManager,
+                            SqliteWriter writer,
+                            ObjectMapper objectMapper,
+                            @Value("${jobtracker.bulk.max-ids:1000}") int maxIds) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * Merge-patch one application: fields present in the body are set (null clears them), the
+     * rest are left alone. When the body carries "version" and the row has moved on since, the
+     * patch is refused with an optimistic-lock failure.
+     */
+    public JobApplication patch(Long id, ObjectNode patch) {
+        Long expectedVersion = patch.hasNonNull("version") ? patch.get("version").asLong() : null;
+        ObjectNode fields = patch.deepCopy();
+        fields.remove(READ_ONLY);
+
+        return writer.write(() -> {
+            JobApplication job = repository.findById(id)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job was not found with id " + id));
+            if (expectedVersion != null && job.getVersion() != expectedVersion) {
+                throw new ObjectOptimisticLockingFailureException(JobApplication.class, id);
+            }
+            try {
+                objectMapper.readerForUpdating(job).readValue(fields);
+            } catch (IOException | IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid patch: " + e.getMessage());
+            }
+            return repository.save(job);
+        });
+    }
+
+    /**
+     * Moves every matching row to request.status() in one versioned UPDATE. Rows already there
+     * are left alone (their version doesn't move), as is a row whose posting already has a twin
+     * with that status (the (applyUrlKey, status) index allows one). When several twins of one
+     * posting match (e.g. its SAVED and APPLIED rows), only the oldest moves and the others keep
+     * their status. Moving to APPLIED dates undated rows today, as /apply does.
+     */
+    public int updateStatus(BulkJobRequest request) {
+        ApplicationStatus status = request.status();
+        if (status == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "status is required");
+        }
+        Map<String, Object> params = new HashMap<>();
+        String where = where(request, params, "j");
+        params.put("newStatus", status);
+
+        StringBuilder hql = new StringBuilder("update versioned JobApplication j set j.status = :newStatus");
+        if (status == ApplicationStatus.APPLIED) {
+            hql.append(", j.appliedDate = coalesce(j.appliedDate, :today)");
+            params.put("today", LocalDate.now());
+        }
+        hql.append(" where ").append(where)
+                .append(" and j.status <> :newStatus")
+                .append(" and not exists (select 1 from JobApplication o where o.applyUrlKey = j.applyUrlKey and o.status = :newStatus)")
+                // The check above only sees rows as they were; without this, two matching twins would both move and collide
+                .append(" and (j.applyUrlKey is null or j.id = (select min(t.id) from JobApplication t where t.applyUrlKey = j.applyUrlKey")
+                .append(" and t.status <> :newStatus and ").append(where(request, params, "t")).append("))");
+        return execute(hql.toString(), params);
+    }
+
+    // Deletes every matching row in one DELETE
+    public int delete(BulkJobRequest request) {
+        Map<String, Object> params = new HashMap<>();
+        String where = where(request, params, "j");
+        return execute("delete from JobApplication j where " + where, params);
+    }
+
+    private int execute(String hql, Map<String, Object> params) {
+        return writer.write(() -> {
+            Query query = entityManager.createQuery(hql);
+            params.forEach(query::setParameter);
+            return query.executeUpdate();
+        });
+    }
+
+    // At least one condition is required, so an empty body can't touch the whole table.
+    // alias = the JobApplication alias the conditions apply to; the parameters are the same for any alias
+    private String where(BulkJobRequest request, Map<String, Object> params, String alias) {
+        StringBuilder where = new StringBuilder();
+        List<Long> ids = request.ids();
+        if (ids != null && !ids.isEmpty()) {
+            if (ids.size() > maxIds) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + maxIds + " ids per request");
+            }
+            and(where, alias + ".id in :ids");
+            params.put("ids", ids);
+        }
+        BulkJobRequest.Filter filter = request.where();
+        if (filter != null) {
+            if (filter.status() != null) {
+                and(where, alias + ".status = :status");
+                params.put("status", filter.status());
+            }
+            if (filter.company() != null && !filter.company().isBlank()) {
+                // Same case-insensitive contains as JobApplicationSpecs.companyContains
+                and(where, "lower(" + alias + ".company) like :company escape '\\'");
+                params.put("company", "%" + filter.company().toLowerCase(Locale.ROOT)
+                        .replace("\\", "\\\\")
+                        .replace("%", "\\%")
+                        .replace("_", "\\_") + "%");
+            }
+            if (filter.appliedBefore() != null) {
+                and(where, alias + ".appliedDate < :appliedBefore");
+                params.put("appliedBefore", filter.appliedBefore());
+            }
+        }
+        if (where.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids or at least one where condition is required");
+        }
+        return where.toString();
+    }
+
+    private static void and(StringBuilder where, String condition) {
+        if (!where.isEmpty()) where.append(" and ");
+        where.append(condition);
+    }
+}
@@ -0,0 +1,24 @@
+package com.jerome.jobtracker.service;
+
+/**
+ * A JSearch call that failed upstream. {@code status} is the HTTP status, or 0 when no
+ * response came back at all (connect failure, timeout, broken stream).
+ */
+public class JsearchException extends RuntimeException {
+
+    private final int status;
+
+    public JsearchException(int status, String message, Throwable cause) {
+        super(message, cause);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    // Throttling, server errors and dead connections say the upstream is unhealthy; other 4xx are our request's fault
+    public boolean isUpstreamFault() {
+        return status == 0 || status == 429 || status >= 500;
+    }
+}
@@ -0,0 +1,91 @@
+package com.jerome.jobtracker.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jerome.jobtracker.dto.ExternalJobDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of parsed JSearch results, keyed on the final query string plus paging.
+ * Entries expire after a TTL and are evicted by size; hit/miss/eviction counts are
+ * published to Actuator as the "jsearch" cache (see /actuator/metrics/cache.gets).
+ * <p>
+ * Alongside it, the last good result per key is kept for much longer ("jsearch-stale") so a
+ * search can still be answered, marked stale, while JSearch is throttling or down.
+ */
+@Component
+public class JsearchResponseCache {
+
+    private final AsyncCache<Key, List<ExternalJobDto>> cache;
+    private final Cache<Key, List<ExternalJobDto>> lastGood;
+
+    public JsearchResponseCache(@Value("${external.jsearch.cache.max-size:500}") long maxSize,
+                                @Value("${external.jsearch.cache.ttl:10m}") Duration ttl,
+                                @Value("${external.jsearch.cache.stale-max-size:2000}") long staleMaxSize,
+                                @Value("${external.jsearch.cache.stale-ttl:24h}") Duration staleTtl,
+                                MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.lastGood = Caffeine.newBuilder()
+                .maximumSize(staleMaxSize)
+                .expireAfterWrite(staleTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "jsearch");
+        CaffeineCacheMetrics.monitor(meterRegistry, lastGood, "jsearch-stale");
+    }
+
+    /**
+     * Returns the cached results for this query, or starts the loader on a miss.
+     * Concurrent misses for the same key share the one in-flight future.
+     * Futures that fail are dropped rather than cached.
+     */
+    public CompletableFuture<List<ExternalJobDto>> get(String query, int page, int numPages,
+                                                       Supplier<CompletableFuture<List<ExternalJobDto>>> loader) {
+        return cache.get(key(query, page, numPages), (k, executor) -> loader.get().thenApply(results -> {
+            List<ExternalJobDto> copy = List.copyOf(results);
+            lastGood.put(k, copy);
+            return copy;
+        }));
+    }
+
+    public CompletableFuture<List<ExternalJobDto>> getIfPresent(String query, int page, int numPages) {
+        return cache.getIfPresent(key(query, page, numPages));
+    }
+
+    public void put(String query, int page, int numPages, List<ExternalJobDto> results) {
+        Key key = key(query, page, numPages);
+        List<ExternalJobDto> copy = List.copyOf(results);
+        cache.put(key, CompletableFuture.completedFuture(copy));
+        lastGood.put(key, copy);
+    }
+
+    // The most recent successful result for this query, even if it has left the main cache; null if none
+    public List<ExternalJobDto> getStale(String query, int page, int numPages) {
+        return lastGood.getIfPresent(key(query, page, numPages));
+    }
+
+    static Key key(String query, int page, int numPages) {
+        return new Key(normalize(query), Math.max(page, 1), Math.max(numPages, 1));
+    }
+
+    // Case and whitespace differences don't change what JSearch returns
+    static String normalize(String query) {
+        return query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    record Key(String query, int page, int numPages) {}
+}
@@ -0,0 +1,102 @@
+package com.jerome.jobtracker.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jerome.jobtracker.dto.ExternalJobDto;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streams a JSearch response body straight into {@link ExternalJobDto}s.
+ * Only the six fields we map are materialized; descriptions, highlights and every
+ * other subtree are skipped token-by-token without being buffered.
+ */
+@Component
+public class JsearchResponseParser {
+
+    private final JsonFactory jsonFactory;
+
+    public JsearchResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public List<ExternalJobDto> parse(InputStream body) throws IOException {
+        List<ExternalJobDto> results = new ArrayList<>();
+        try (JsonParser p = jsonFactory.createParser(body)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                return results;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    readJobs(p, results);
+                } else {
+                    p.skipChildren(); // JSearch puts results under "data"; ignore status, parameters, etc.
+                }
+            }
+        }
+        return results;
+    }
+
+    private void readJobs(JsonParser p, List<ExternalJobDto> results) throws IOException {
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                results.add(readJob(p));
+            } else {
+                p.skipChildren();
+            }
+        }
+    }
+
+    private ExternalJobDto readJob(JsonParser p) throws IOException {
+        String title = null;
+        String company = null;
+        String city = "";
+        String state = "";
+        String country = "";
+        String applyUrl = null;
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "job_title" -> title = text(p, null);
+                case "employer_name" -> company = text(p, null);
+                case "job_city" -> city = text(p, "");
+                case "job_state" -> state = text(p, "");
+                case "job_country" -> country = text(p, "");
+                case "job_apply_link" -> applyUrl = text(p, null);
+                default -> p.skipChildren();
+            }
+        }
+
+        String location = Stream.of(city, state, country)
+                .filter(s -> s != null && !s.isBlank())
+                .collect(Collectors.joining(", "));
+
+        return new ExternalJobDto(title, company, location, applyUrl);
+    }
+
+    // Same semantics as JsonNode.asText(defaultValue): scalars as text, null/containers fall back
+    private static String text(JsonParser p, String defaultValue) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return defaultValue;
+        }
+        if (token.isStructStart()) {
+            p.skipChildren();
+            return defaultValue;
+        }
+        return p.getText();
+    }
+}
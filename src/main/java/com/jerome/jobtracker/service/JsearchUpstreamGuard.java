@@ -0,0 +1,95 @@
+package com.jerome.jobtracker.service;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRateLimiterMetrics;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for JSearch exchanges: a rate limiter sized to the RapidAPI plan quota and a
+ * circuit breaker that opens when too many calls are throttled, fail, or are slow. Both reject
+ * immediately rather than queueing, so a struggling upstream never holds our request threads;
+ * callers fall back to stale results instead.
+ * State and rejections are published as resilience4j.circuitbreaker.* / resilience4j.ratelimiter.*.
+ */
+@Component
+public class JsearchUpstreamGuard {
+
+    private final RateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+
+    public JsearchUpstreamGuard(@Value("${external.jsearch.rate-limit.limit-for-period:5}") int limitForPeriod,
+                                @Value("${external.jsearch.rate-limit.refresh-period:1s}") Duration refreshPeriod,
+                                @Value("${external.jsearch.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                                @Value("${external.jsearch.circuit-breaker.slow-call-threshold:5s}") Duration slowCallThreshold,
+                                @Value("${external.jsearch.circuit-breaker.window-size:20}") int windowSize,
+                                @Value("${external.jsearch.circuit-breaker.open-duration:30s}") Duration openDuration,
+                                MeterRegistry meterRegistry) {
+        RateLimiterRegistry rateLimiters = RateLimiterRegistry.of(RateLimiterConfig.custom()
+                .limitForPeriod(limitForPeriod)
+                .limitRefreshPeriod(refreshPeriod)
+                .timeoutDuration(Duration.ZERO) // no waiting for a permit
+                .build());
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(windowSize)
+                .minimumNumberOfCalls(Math.min(windowSize, 10))
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slowCallRateThreshold(80)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .recordException(ex -> !(ex instanceof JsearchException je) || je.isUpstreamFault())
+                .build());
+
+        this.rateLimiter = rateLimiters.rateLimiter("jsearch");
+        this.circuitBreaker = circuitBreakers.circuitBreaker("jsearch");
+        TaggedRateLimiterMetrics.ofRateLimiterRegistry(rateLimiters).bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+    }
+
+    /**
+     * Admits one upstream call and returns its start time for {@link #onSuccess} / {@link #onFailure}.
+     *
+     * @throws CallNotPermittedException while the breaker is open
+     * @throws RequestNotPermitted       when the quota for the current period is used up
+     */
+    public long acquire() {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw CallNotPermittedException.createCallNotPermittedException(circuitBreaker);
+        }
+        if (!rateLimiter.acquirePermission()) {
+            circuitBreaker.releasePermission();
+            throw RequestNotPermitted.createRequestNotPermitted(rateLimiter);
+        }
+        return System.nanoTime();
+    }
+
+    public void onSuccess(long startNanos) {
+        circuitBreaker.onSuccess(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void onFailure(long startNanos, Throwable error) {
+        circuitBreaker.onError(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS, error);
+    }
+
+    // A call we abandoned ourselves says nothing about upstream health
+    public void onCancelled() {
+        circuitBreaker.releasePermission();
+    }
+
+    public static boolean isRejection(Throwable ex) {
+        return ex instanceof CallNotPermittedException || ex instanceof RequestNotPermitted;
+    }
+}
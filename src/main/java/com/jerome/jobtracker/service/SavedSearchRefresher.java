@@ -0,0 +1,185 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.dto.ExternalJobDto;
+import com.jerome.jobtracker.dto.ExternalJobResults;
+import com.jerome.jobtracker.model.ApplyUrlKey;
+import com.jerome.jobtracker.model.SavedSearch;
+import com.jerome.jobtracker.model.SavedSearchHit;
+import com.jerome.jobtracker.model.SearchMode;
+import com.jerome.jobtracker.repository.SavedSearchHitRepository;
+import com.jerome.jobtracker.repository.SavedSearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Re-runs every saved search against JSearch in the background and stores only the postings
+ * an earlier run hadn't seen (diffed by ApplyUrlKey), so "new since last check" is a local query.
+ * <p>
+ * At most max-concurrency searches are in flight, and each waits a random 0..jitter before
+ * starting so a large set doesn't hit the JSearch quota in one burst. A run finishes before the
+ * next one is scheduled.
+ */
+@Service
+public class SavedSearchRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchRefresher.class);
+
+    // Keeps each IN (...) well under SQLite's bound-parameter limit
+    private static final int LOOKUP_CHUNK = 500;
+
+    private final ExternalJobService externalJobService;
+    private final SavedSearchRepository searchRepository;
+    private final SavedSearchHitRepository hitRepository;
+    private final SqliteWriter writer;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxConcurrency;
+    private final Duration jitter;
+    private final ExecutorService storeExecutor; // diffs and stores results off the HTTP client's threads
+
+    public SavedSearchRefresher(ExternalJobService externalJobService,
+                                SavedSearchRepository searchRepository,
+                                SavedSearchHitRepository hitRepository,
+                                SqliteWriter writer,
+                                MeterRegistry meterRegistry,
+                                @Value("${jobtracker.saved-search.refresh.enabled:true}") boolean enabled,
+                                @Value("${jobtracker.saved-search.refresh.max-concurrency:2}") int maxConcurrency,
+                                @Value("${jobtracker.saved-search.refresh.jitter:30s}") Duration jitter) {
+        this.externalJobService = externalJobService;
+        this.searchRepository = searchRepository;
+        this.hitRepository = hitRepository;
+        this.writer = writer;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxConcurrency = Math.max(maxConcurrency, 1);
+        this.jitter = jitter;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("saved-search-store-");
+        threadFactory.setDaemon(true);
+        this.storeExecutor = Executors.newFixedThreadPool(this.maxConcurrency, threadFactory);
+    }
+
+    @PreDestroy
+    void shutdownStoreExecutor() {
+        storeExecutor.shutdownNow();
+    }
+
+    @Scheduled(initialDelayString = "${jobtracker.saved-search.refresh.initial-delay:5m}",
+            fixedDelayString = "${jobtracker.saved-search.refresh.interval:6h}")
+    public void refreshAll() {
+        if (!enabled) return;
+        List<SavedSearch> searches = searchRepository.findAll();
+        if (searches.isEmpty()) return;
+
+        // Each lane keeps taking the next search until all have run
+        AtomicInteger next = new AtomicInteger();
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(maxConcurrency, searches.size())];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = refreshNext(searches, next);
+        }
+        CompletableFuture.allOf(lanes).join();
+        log.info("Refreshed {} saved searches", searches.size());
+    }
+
+    private CompletableFuture<Void> refreshNext(List<SavedSearch> searches, AtomicInteger next) {
+        int i = next.getAndIncrement();
+        if (i >= searches.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        SavedSearch search = searches.get(i);
+        long bound = jitter.toMillis();
+        long delay = bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound);
+        return CompletableFuture.supplyAsync(() -> search, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                .thenCompose(this::refresh)
+                .handle((updated, ex) -> {
+                    if (ex != null) {
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                        log.warn("Saved search {} ('{}') was not refreshed: {}", search.getId(), search.getKeyword(), cause.toString());
+                    }
+                    return null;
+                })
+                .thenCompose(done -> refreshNext(searches, next));
+    }
+
+    /**
+     * Runs one saved search upstream and stores the postings it hasn't returned before.
+     * Completes with the search as updated (lastRunAt, lastNewCount), or null if it was deleted meanwhile.
+     */
+    public CompletableFuture<SavedSearch> refresh(SavedSearch search) {
+        return externalJobService.searchJobsUpstreamV2(search.getKeyword(), search.getLocation(), search.getExperience(),
+                        search.getSkills(), search.isMilitary(), search.isRemote(), search.isHybrid(),
+                        1, search.getNumPages(), SearchMode.SEQUENTIAL)
+                .thenApplyAsync(results -> {
+                    if (results.stale()) {
+                        // Last good results from before JSearch went down; nothing new to learn from them
+                        throw new JsearchException(0, "JSearch is unavailable, only stale results came back", null);
+                    }
+                    // SqliteWriter starts its transactions with BEGIN IMMEDIATE, so a concurrent write waits
+                    // for the lock instead of failing this read-then-write with SQLITE_BUSY
+                    return writer.write(() -> storeNew(search.getId(), results));
+                }, storeExecutor);
+    }
+
+    private SavedSearch storeNew(Long searchId, ExternalJobResults results) {
+        return searchRepository.findById(searchId).map(search -> {
+            // Jobs without an applyUrl can't be diffed, so they are never stored
+            Map<String, ExternalJobDto> byKey = new LinkedHashMap<>();
+            for (ExternalJobDto job : results.jobs()) {
+                String key = ApplyUrlKey.of(job.applyUrl());
+                if (key != null) {
+                    byKey.putIfAbsent(key, job);
+                }
+            }
+
+            Set<String> known = new HashSet<>();
+            List<String> keys = new ArrayList<>(byKey.keySet());
+            for (int from = 0; from < keys.size(); from += LOOKUP_CHUNK) {
+                known.addAll(hitRepository.findKnownKeys(searchId, keys.subList(from, Math.min(from + LOOKUP_CHUNK, keys.size()))));
+            }
+
+            Instant now = Instant.now();
+            List<SavedSearchHit> fresh = new ArrayList<>();
+            byKey.forEach((key, job) -> {
+                if (!known.contains(key)) {
+                    SavedSearchHit hit = new SavedSearchHit();
+                    hit.setSavedSearchId(searchId);
+                    hit.setApplyUrlKey(key);
+                    hit.setTitle(job.title());
+                    hit.setCompany(job.company());
+                    hit.setLocation(job.location());
+                    hit.setApplyUrl(job.applyUrl());
+                    hit.setFirstSeenAt(now);
+                    fresh.add(hit);
+                }
+            });
+            hitRepository.saveAll(fresh);
+            meterRegistry.counter("saved.search.new.postings").increment(fresh.size());
+
+            search.setLastRunAt(now);
+            search.setLastNewCount(fresh.size());
+            return searchRepository.save(search);
+        }).orElse(null);
+    }
+}
@@ -0,0 +1,268 @@
+package com.jerome.jobtracker.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Funnels database writes through one thread so SQLite only ever sees a single writer and
+ * concurrent requests queue here instead of failing with SQLITE_BUSY. Writes that pile up
+ * while a transaction is running are committed together in the next one (group commit), so
+ * a burst of saves costs one fsync rather than one each.
+ * <p>
+ * Each write in a group runs inside its own SAVEPOINT, so one that throws (a 409 for a duplicate,
+ * say) is rolled back alone and the rest of the group still commits. Only if the commit itself
+ * fails, or a write left the transaction rollback-only (a failure inside a @Transactional
+ * repository call does), are the writes replayed one transaction each so only the bad one fails.
+ * Work handed to {@link #write} may therefore run twice: load and build entities inside it.
+ * <p>
+ * Off by default (see the perf profile); writes then run in their own transaction on the
+ * caller's thread. That transaction takes the write lock before the work's first read (BEGIN
+ * IMMEDIATE), so concurrent writers wait busy_timeout for each other: a deferred transaction
+ * that reads, then writes after another connection committed, is refused at once with SQLITE_BUSY.
+ */
+@Component
+public class SqliteWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqliteWriter.class);
+
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final BlockingQueue<Write<?>> queue;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public SqliteWriter(DataSource dataSource,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${jobtracker.sqlite.writer.enabled:false}") boolean enabled,
+                        @Value("${jobtracker.sqlite.writer.max-batch:64}") int maxBatch,
+                        @Value("${jobtracker.sqlite.writer.queue-capacity:1024}") int queueCapacity) {
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxBatch = Math.max(maxBatch, 1);
+        this.queue = new LinkedBlockingQueue<>(Math.max(queueCapacity, 1));
+        if (enabled) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("sqlite-writer-");
+            threadFactory.setDaemon(true);
+            this.thread = threadFactory.newThread(this::drain);
+            this.thread.start();
+        } else {
+            this.thread = null;
+        }
+    }
+
+    /**
+     * Runs the work in a write transaction and returns its result. Blocks until the
+     * transaction holding it has committed; exceptions thrown by the work are rethrown as-is.
+     */
+    public <T> T write(Supplier<T> work) {
+        // Nested writes from the writer thread just join the transaction already open there
+        if (Thread.currentThread() == thread) {
+            return transactionTemplate.execute(status -> work.get());
+        }
+        if (!enabled) {
+            return transactionTemplate.execute(status -> {
+                if (status.isNewTransaction()) {
+                    beginImmediate();
+                }
+                return work.get();
+            });
+        }
+
+        Write<T> write = new Write<>(work);
+        try {
+            queue.put(write); // a full queue pushes back on callers instead of growing without bound
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing a write", e);
+        }
+        return write.await();
+    }
+
+    public void run(Runnable work) {
+        write(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    // The driver has opened the transaction DEFERRED (no lock until the first write); restart it
+    // IMMEDIATE, as the driver itself does to upgrade one. Nothing has run in it yet
+    private void beginImmediate() {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("commit");
+            try {
+                statement.execute("begin immediate");
+            } catch (SQLException busy) {
+                // Still busy after busy_timeout: reopen a transaction for the rollback that follows
+                statement.execute("begin");
+                throw new CannotAcquireLockException("Timed out waiting for the SQLite write lock", busy);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not restart the transaction as IMMEDIATE", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void drain() {
+        List<Write<?>> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, maxBatch - 1);
+            commit(batch);
+            batch.clear();
+        }
+
+        List<Write<?>> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(w -> w.fail(new IllegalStateException("SQLite writer has shut down")));
+    }
+
+    private void commit(List<Write<?>> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(write -> runIsolated(write, status)));
+        } catch (RuntimeException | Error ex) {
+            if (batch.size() == 1) {
+                batch.get(0).fail(ex);
+                return;
+            }
+            log.debug("Group commit of {} writes failed, replaying them one by one", batch.size(), ex);
+            batch.forEach(this::commitAlone);
+            return;
+        }
+        batch.forEach(Write::settle);
+    }
+
+    // One write of a group: its changes are flushed inside a savepoint, and undone alone if it throws
+    private void runIsolated(Write<?> write, TransactionStatus status) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                write.run();
+                status.flush();
+                connection.releaseSavepoint(savepoint);
+            } catch (RuntimeException ex) {
+                connection.rollback(savepoint);
+                // Entities the failed write left pending would otherwise be flushed at commit
+                TransactionSynchronizationManager.getResourceMap().values().forEach(resource -> {
+                    if (resource instanceof EntityManagerHolder holder) {
+                        holder.getEntityManager().clear();
+                    }
+                });
+                write.reject(ex);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("SQLite savepoint failed", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    // Writes waiting for the writer thread (tests)
+    int pending() {
+        return queue.size();
+    }
+
+    private void commitAlone(Write<?> write) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write.run());
+            write.succeed();
+        } catch (RuntimeException | Error ex) {
+            write.fail(ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (thread != null) {
+            running = false;
+            thread.interrupt();
+            thread.join(5_000);
+        }
+    }
+
+    private static final class Write<T> {
+
+        private final Supplier<T> work;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private T value;
+        private RuntimeException rejection;
+
+        Write(Supplier<T> work) {
+            this.work = work;
+        }
+
+        void run() {
+            rejection = null;
+            value = work.get();
+        }
+
+        // Failed and rolled back to its savepoint; reported once the rest of the group has committed
+        void reject(RuntimeException ex) {
+            rejection = ex;
+        }
+
+        void settle() {
+            if (rejection != null) {
+                fail(rejection);
+            } else {
+                succeed();
+            }
+        }
+
+        void succeed() {
+            result.complete(value);
+        }
+
+        void fail(Throwable ex) {
+            result.completeExceptionally(ex);
+        }
+
+        T await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.jerome.jobtracker;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// A fresh SQLite file per test class, so tests that write don't share rows with each other or with jobs.db
+public final class TestDatabase {
+
+	private TestDatabase() {
+	}
+
+	public static void register(DynamicPropertyRegistry registry) {
+		try {
+			Path file = Files.createTempFile("jobtracker-test", ".db");
+			file.toFile().deleteOnExit();
+			registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + file);
+			registry.add("spring.jpa.show-sql", () -> "false");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package com.jerome.jobtracker.config;
+
+import com.jerome.jobtracker.TestDatabase;
+import com.jerome.jobtracker.model.ApplyUrlKey;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ApplicationStatusMigrationTests {
+
+	private static final String URL = "https://jobs.example.com/apply/1";
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private ApplicationStatusMigration migration;
+
+	@Autowired
+	private JobApplicationRepository repository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void clear() {
+		repository.deleteAll();
+	}
+
+	@Test
+	void knownSpellingsBecomeTheirStatus() {
+		long applied = legacyRow("Applied", null, null);
+		long interview = legacyRow("interview", null, null);
+		long offered = legacyRow(" Offered ", null, null);
+
+		migration.afterSingletonsInstantiated();
+
+		assertThat(status(applied)).isEqualTo("APPLIED");
+		assertThat(status(interview)).isEqualTo("INTERVIEWING");
+		assertThat(status(offered)).isEqualTo("OFFER");
+	}
+
+	@Test
+	void missingOrUnknownStatusFollowsTheAppliedDateAndUnknownTextMovesToNotes() {
+		LocalDate day = LocalDate.of(2025, 3, 1);
+		long undated = legacyRow(null, null, null);
+		long dated = legacyRow("", day, null);
+		long unknown = legacyRow("Ghosted", day, "Recruiter went quiet");
+
+		migration.afterSingletonsInstantiated();
+
+		assertThat(status(undated)).isEqualTo("SAVED");
+		assertThat(status(dated)).isEqualTo("APPLIED");
+		Map<String, Object> row = jdbcTemplate.queryForMap("select status, notes from job_application where id = ?", unknown);
+		assertThat(row).containsEntry("status", "APPLIED").containsEntry("notes", "Recruiter went quiet [status: Ghosted]");
+	}
+
+	@Test
+	void aRowThatWouldDuplicateItsTwinLosesItsKeyInstead() {
+		String key = ApplyUrlKey.of(URL);
+		long twin = legacyRow("APPLIED", null, null);
+		long legacy = legacyRow("applied", null, null);
+		jdbcTemplate.update("update job_application set apply_url_key = ? where id in (?, ?)", key, twin, legacy);
+
+		migration.afterSingletonsInstantiated();
+
+		assertThat(status(legacy)).isEqualTo("APPLIED");
+		assertThat(jdbcTemplate.queryForObject("select apply_url_key from job_application where id = ?", String.class, twin))
+				.isEqualTo(key);
+		assertThat(jdbcTemplate.queryForObject("select apply_url_key from job_application where id = ?", String.class, legacy))
+				.isNull();
+	}
+
+	// Tables created from the enum carry a CHECK on status; the legacy ones this migrates never had it
+	private long legacyRow(String status, LocalDate appliedDate, String notes) {
+		return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+			try (Statement pragma = connection.createStatement();
+				 PreparedStatement insert = connection.prepareStatement(
+						 "insert into job_application (company, position, status, applied_date, apply_url, notes, version)"
+								 + " values ('Acme', 'Engineer', ?, ?, ?, ?, 0)",
+						 Statement.RETURN_GENERATED_KEYS)) {
+				pragma.execute("pragma ignore_check_constraints = 1");
+				try {
+					insert.setString(1, status);
+					insert.setDate(2, appliedDate != null ? Date.valueOf(appliedDate) : null);
+					insert.setString(3, URL);
+					insert.setString(4, notes);
+					insert.executeUpdate();
+					try (ResultSet keys = insert.getGeneratedKeys()) {
+						keys.next();
+						return keys.getLong(1);
+					}
+				} finally {
+					pragma.execute("pragma ignore_check_constraints = 0");
+				}
+			}
+		});
+	}
+
+	private String status(long id) {
+		return jdbcTemplate.queryForObject("select status from job_application where id = ?", String.class, id);
+	}
+}
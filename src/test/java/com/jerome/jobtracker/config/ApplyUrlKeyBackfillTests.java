@@ -0,0 +1,119 @@
+package com.jerome.jobtracker.config;
+
+import com.jerome.jobtracker.TestDatabase;
+import com.jerome.jobtracker.controller.JobApplicationController;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.ApplyUrlKey;
+import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.SQLiteException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ApplyUrlKeyBackfillTests {
+
+	private static final String URL = "https://jobs.example.com/apply/1";
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private ApplyUrlKeyBackfill backfill;
+
+	@Autowired
+	private JobApplicationRepository repository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private JobApplicationController controller;
+
+	@BeforeEach
+	void clear() {
+		repository.deleteAll();
+		jdbcTemplate.update("delete from schema_migration");
+	}
+
+	@Test
+	void legacyDuplicatesStayUnkeyedAndCanStillBeEdited() {
+		long oldest = legacyRow("SAVED");
+		long duplicate = legacyRow("SAVED");
+
+		backfill.run(null);
+
+		assertThat(key(oldest)).isEqualTo(ApplyUrlKey.of(URL));
+		assertThat(key(duplicate)).isNull();
+
+		JobApplication job = repository.findById(duplicate).orElseThrow();
+		job.setNotes("still here");
+		repository.save(job);
+		assertThat(key(duplicate)).isNull();
+	}
+
+	@Test
+	void aFinishedBackfillIsNotRunAgain() {
+		backfill.run(null);
+		long unkeyed = legacyRow("APPLIED");
+
+		backfill.run(null);
+
+		assertThat(key(unkeyed)).isNull();
+	}
+
+	@Test
+	void onlyTheDuplicatePostingIndexMapsTo409() {
+		backfill.run(null);
+		repository.save(job(ApplicationStatus.SAVED));
+
+		DataAccessException duplicate = catchViolation(() -> repository.save(job(ApplicationStatus.SAVED)));
+		assertThat(controller.onDuplicateJob(duplicate).getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+		DataAccessException other = new DataIntegrityViolationException("insert failed",
+				new SQLiteException("NOT NULL constraint failed: saved_search.name", SQLiteErrorCode.SQLITE_CONSTRAINT_NOTNULL));
+		assertThatThrownBy(() -> controller.onDuplicateJob(other)).isSameAs(other);
+	}
+
+	private long legacyRow(String status) {
+		jdbcTemplate.update("insert into job_application (company, position, status, apply_url, version) values ('Acme', 'Engineer', ?, ?, 0)",
+				status, URL);
+		return jdbcTemplate.queryForObject("select max(id) from job_application", Long.class);
+	}
+
+	private String key(long id) {
+		return jdbcTemplate.queryForObject("select apply_url_key from job_application where id = ?", String.class, id);
+	}
+
+	private static JobApplication job(ApplicationStatus status) {
+		JobApplication job = new JobApplication();
+		job.setCompany("Acme");
+		job.setPosition("Engineer");
+		job.setStatus(status);
+		job.setApplyUrl(URL);
+		return job;
+	}
+
+	private static DataAccessException catchViolation(Runnable write) {
+		try {
+			write.run();
+		} catch (DataAccessException e) {
+			return e;
+		}
+		throw new AssertionError("expected the unique index to reject the write");
+	}
+}
@@ -0,0 +1,115 @@
+package com.jerome.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jerome.jobtracker.TestDatabase;
+import com.jerome.jobtracker.dto.ExternalJobDto;
+import com.jerome.jobtracker.dto.ExternalJobPage;
+import com.jerome.jobtracker.service.ExternalJobService;
+import org.junit.jupiter.api.RepeatedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ExternalJobStreamTests {
+
+	private static final int LANES = 16;
+	private static final int PAGES_PER_LANE = 200;
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@MockitoBean
+	private ExternalJobService externalJobService;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// Interleaving needs the scheduler to switch lanes mid-page, so a few rounds make a regression show up reliably
+	@RepeatedTest(5)
+	void pagesFromConcurrentLanesArriveAsWholeNdjsonLines() throws Exception {
+		given(externalJobService.streamJobsFromApiV2(anyString(), isNull(), isNull(), isNull(), anyBoolean(), anyBoolean(),
+				anyBoolean(), anyInt(), anyInt(), any(), anyInt(), any()))
+				.willAnswer(invocation -> fanOut(invocation.getArgument(11)));
+
+		MvcResult started = mockMvc.perform(get("/api/jobs/external/search2/stream").param("keyword", "java"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		String body = mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		Set<Integer> pages = new HashSet<>();
+		for (String line : body.split("\n")) {
+			ExternalJobPage page = objectMapper.readValue(line, ExternalJobPage.class);
+			assertThat(page.jobs()).hasSize(2);
+			pages.add(page.page());
+		}
+		assertThat(pages).hasSize(LANES * PAGES_PER_LANE);
+	}
+
+	// Every lane sends its pages at the same moment, as ExternalJobService.fetchPages' lanes do
+	private static CompletableFuture<Void> fanOut(Consumer<ExternalJobPage> onPage) {
+		CountDownLatch start = new CountDownLatch(1);
+		List<CompletableFuture<Void>> lanes = new ArrayList<>();
+		for (int lane = 0; lane < LANES; lane++) {
+			int first = lane * PAGES_PER_LANE;
+			lanes.add(CompletableFuture.runAsync(() -> {
+				await(start);
+				for (int p = first; p < first + PAGES_PER_LANE; p++) {
+					onPage.accept(new ExternalJobPage(p, jobs(p), false));
+				}
+			}));
+		}
+		start.countDown();
+		return CompletableFuture.allOf(lanes.toArray(CompletableFuture[]::new));
+	}
+
+	private static List<ExternalJobDto> jobs(int page) {
+		return IntStream.range(0, 2)
+				.mapToObj(i -> new ExternalJobDto("Engineer " + i, "Company " + page, "Seattle, WA, US",
+						"https://jobs.example.com/" + page + "/" + i))
+				.toList();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.jerome.jobtracker.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.JobApplication;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobApplicationViewTests {
+
+	// Boot's output settings (ISO dates), with and without the application's Blackbird module
+	private static final List<ObjectMapper> MAPPERS = List.of(
+			JsonMapper.builder().addModule(new JavaTimeModule())
+					.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(),
+			JsonMapper.builder().addModule(new JavaTimeModule()).addModule(new BlackbirdModule())
+					.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build());
+
+	@Test
+	void aViewSerializesExactlyLikeTheEntity() throws Exception {
+		JobApplication job = everyFieldSet();
+
+		for (ObjectMapper mapper : MAPPERS) {
+			assertThat(mapper.writeValueAsString(view(job))).isEqualTo(mapper.writeValueAsString(job));
+		}
+	}
+
+	@Test
+	void nullColumnsSerializeLikeTheEntityToo() throws Exception {
+		JobApplication job = new JobApplication();
+		job.setId(1L);
+
+		for (ObjectMapper mapper : MAPPERS) {
+			assertThat(mapper.writeValueAsString(view(job))).isEqualTo(mapper.writeValueAsString(job));
+		}
+	}
+
+	// How JobApplicationViewsImpl maps a row, minus the ResultSet
+	private static JobApplicationView view(JobApplication job) {
+		return new JobApplicationView(job.getId(), job.getCompany(), job.getPosition(), job.getStatus(),
+				job.getAppliedDate(), job.getLocation(), job.getApplyUrl(), job.getSource(), job.getNotes(), job.getVersion());
+	}
+
+	// Every persistent field, including ones added after this test, gets a distinct value; a field the
+	// view doesn't carry then shows up as a JSON difference instead of going unnoticed
+	private static JobApplication everyFieldSet() throws IllegalAccessException {
+		JobApplication job = new JobApplication();
+		for (Field field : JobApplication.class.getDeclaredFields()) {
+			if (Modifier.isStatic(field.getModifiers())) continue;
+			field.setAccessible(true);
+			field.set(job, sample(field));
+		}
+		return job;
+	}
+
+	private static Object sample(Field field) {
+		Class<?> type = field.getType();
+		if (type == String.class) return field.getName() + " \"quoted\", é";
+		if (type == Long.class || type == long.class) return (long) field.getName().length();
+		if (type == ApplicationStatus.class) return ApplicationStatus.INTERVIEWING;
+		if (type == LocalDate.class) return LocalDate.of(2025, 3, 1);
+		throw new AssertionError("No sample value for " + field + "; add one so the view is checked against it");
+	}
+}
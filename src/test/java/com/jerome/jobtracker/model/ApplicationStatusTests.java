@@ -0,0 +1,24 @@
+package com.jerome.jobtracker.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ApplicationStatusTests {
+
+	@Test
+	void legacySpellingsMapToTheEnum() {
+		assertThat(ApplicationStatus.from("Applied")).isEqualTo(ApplicationStatus.APPLIED);
+		assertThat(ApplicationStatus.from(" saved ")).isEqualTo(ApplicationStatus.SAVED);
+		assertThat(ApplicationStatus.from("Interview")).isEqualTo(ApplicationStatus.INTERVIEWING);
+		assertThat(ApplicationStatus.from("offered")).isEqualTo(ApplicationStatus.OFFER);
+	}
+
+	@Test
+	void blankIsNoStatusAndUnknownIsRejected() {
+		assertThat(ApplicationStatus.from(null)).isNull();
+		assertThat(ApplicationStatus.from("  ")).isNull();
+		assertThatIllegalArgumentException().isThrownBy(() -> ApplicationStatus.from("ghosted"));
+	}
+}
@@ -0,0 +1,29 @@
+package com.jerome.jobtracker.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplyUrlKeyTests {
+
+	@Test
+	void trackingAndCosmeticDifferencesShareAKey() {
+		String key = ApplyUrlKey.of("https://careers.acme.com/jobs/123?lang=en&id=9");
+
+		assertThat(ApplyUrlKey.of("HTTP://www.Careers.Acme.com:443/jobs/123/?id=9&utm_source=google_jobs_apply&lang=en#apply"))
+				.isEqualTo(key);
+		assertThat(ApplyUrlKey.of("https://careers.acme.com/jobs/123?id=9&lang=en&gclid=abc")).isEqualTo(key);
+	}
+
+	@Test
+	void differentPostingsGetDifferentKeys() {
+		assertThat(ApplyUrlKey.of("https://careers.acme.com/jobs/123?id=9"))
+				.isNotEqualTo(ApplyUrlKey.of("https://careers.acme.com/jobs/123?id=10"));
+	}
+
+	@Test
+	void blankUrlsHaveNoKey() {
+		assertThat(ApplyUrlKey.of(null)).isNull();
+		assertThat(ApplyUrlKey.of("  ")).isNull();
+	}
+}
@@ -0,0 +1,153 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.TestDatabase;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// A stand-in JSearch that sends its headers and the start of a body, then stalls
+@SpringBootTest
+class ExternalJobServiceTests {
+
+	private static final HttpServer server = startServer();
+	private static volatile CountDownLatch headersSent = new CountDownLatch(1);
+	private static volatile CountDownLatch clientHungUp = new CountDownLatch(1);
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+		registry.add("external.jsearch.base-url", () -> "http://localhost:" + server.getAddress().getPort());
+		registry.add("external.jsearch.http.read-timeout", () -> "1s");
+		registry.add("external.jsearch.catalog.enabled", () -> "false");
+	}
+
+	@Autowired
+	private ExternalJobService service;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@AfterAll
+	static void stopServer() {
+		server.stop(0);
+	}
+
+	@Test
+	void aBodyStillUnreadAtTheReadTimeoutFailsTheCallAndFreesTheConnection() throws Exception {
+		reset();
+		long before = count("TIMEOUT");
+
+		CompletableFuture<?> call = service.fetch(url("timeout"));
+
+		assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(JsearchException.class)
+				.hasMessageContaining("not read within");
+		assertThat(clientHungUp.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(count("TIMEOUT")).isEqualTo(before + 1);
+		assertThat(count("200")).isZero();
+	}
+
+	@Test
+	void cancellingACallClosesTheBodyAndRecordsItOnce() throws Exception {
+		reset();
+		long before = count("CANCELLED");
+		long calls = total();
+
+		CompletableFuture<?> call = service.fetch(url("cancel"));
+		assertThat(headersSent.await(5, TimeUnit.SECONDS)).isTrue();
+		call.cancel(true);
+		call.cancel(true);
+
+		assertThatThrownBy(call::join).isInstanceOf(CancellationException.class);
+		assertThat(clientHungUp.await(5, TimeUnit.SECONDS)).isTrue();
+		Thread.sleep(1500); // past the read timeout, and long enough for the parse thread to notice the closed body
+		assertThat(count("CANCELLED")).isEqualTo(before + 1);
+		assertThat(total()).isEqualTo(calls + 1); // not also as the IO_ERROR the parse thread sees, or a TIMEOUT
+	}
+
+	@Test
+	void cancellingACallThatAlreadyTimedOutRecordsNothingMore() throws Exception {
+		reset();
+		long cancelled = count("CANCELLED");
+
+		CompletableFuture<?> call = service.fetch(url("late-cancel"));
+		assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(JsearchException.class);
+		long calls = total();
+
+		assertThat(call.cancel(true)).isFalse();
+		Thread.sleep(200);
+		assertThat(count("CANCELLED")).isEqualTo(cancelled);
+		assertThat(total()).isEqualTo(calls);
+	}
+
+	private long count(String status) {
+		Timer timer = meterRegistry.find("jsearch.request").tag("status", status).timer();
+		return timer == null ? 0 : timer.count();
+	}
+
+	// Calls recorded under any status
+	private long total() {
+		return meterRegistry.find("jsearch.request").timers().stream().mapToLong(Timer::count).sum();
+	}
+
+	private static String url(String query) {
+		return "http://localhost:" + server.getAddress().getPort() + "/search?query=" + query;
+	}
+
+	private static void reset() {
+		headersSent = new CountDownLatch(1);
+		clientHungUp = new CountDownLatch(1);
+	}
+
+	private static HttpServer startServer() {
+		try {
+			HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			server.setExecutor(Executors.newCachedThreadPool());
+			server.createContext("/", exchange -> {
+				exchange.getResponseHeaders().add("Content-Type", "application/json");
+				exchange.sendResponseHeaders(200, 0);
+				OutputStream body = exchange.getResponseBody();
+				body.write("{\"data\":[".getBytes(StandardCharsets.UTF_8));
+				body.flush();
+				headersSent.countDown();
+				// Trickle whitespace until the client closes its end; the parser never sees the end of the array
+				try {
+					for (int i = 0; i < 200; i++) {
+						Thread.sleep(50);
+						body.write(' ');
+						body.flush();
+					}
+				} catch (IOException | InterruptedException hungUp) {
+					clientHungUp.countDown();
+				} finally {
+					exchange.close();
+				}
+			});
+			server.start();
+			return server;
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.TestDatabase;
+import com.jerome.jobtracker.dto.ApplyJobRequest;
+import com.jerome.jobtracker.dto.BatchItemResult;
+import com.jerome.jobtracker.dto.BatchItemResult.Outcome;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class JobBatchServiceTests {
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private JobBatchService service;
+
+	@Autowired
+	private JobApplicationRepository repository;
+
+	@BeforeEach
+	void clear() {
+		repository.deleteAll();
+	}
+
+	@Test
+	void saveAllCreatesEachPostingOnceAndReportsRepeatsAtTheirIndex() {
+		List<BatchItemResult> results = service.saveAll(List.of(
+				request("https://jobs.example.com/a"),
+				request("https://jobs.example.com/a?utm_source=jsearch"),
+				request("https://jobs.example.com/b"),
+				request(null),
+				request(null)));
+
+		assertThat(results).extracting(BatchItemResult::index).containsExactly(0, 1, 2, 3, 4);
+		assertThat(results).extracting(BatchItemResult::outcome)
+				.containsExactly(Outcome.CREATED, Outcome.CONFLICT, Outcome.CREATED, Outcome.CREATED, Outcome.CREATED);
+		assertThat(results.get(1).message()).isEqualTo("Already saved");
+		assertThat(results.get(0).job().getId()).isNotNull();
+		assertThat(repository.findAll()).hasSize(4).allMatch(job -> job.getStatus() == ApplicationStatus.SAVED);
+	}
+
+	@Test
+	void saveAllOnlyConflictsWithASavedRowNotAnAppliedOne() {
+		store("https://jobs.example.com/a", ApplicationStatus.SAVED);
+		store("https://jobs.example.com/b", ApplicationStatus.APPLIED);
+
+		List<BatchItemResult> results = service.saveAll(List.of(
+				request("https://jobs.example.com/a"),
+				request("https://jobs.example.com/b")));
+
+		assertThat(results).extracting(BatchItemResult::outcome).containsExactly(Outcome.CONFLICT, Outcome.CREATED);
+		assertThat(repository.findAll()).hasSize(3);
+	}
+
+	@Test
+	void applyAllPromotesSavedRowsCreatesNewOnesAndRefusesRepeats() {
+		long saved = store("https://jobs.example.com/a", ApplicationStatus.SAVED).getId();
+		store("https://jobs.example.com/b", ApplicationStatus.APPLIED);
+
+		List<BatchItemResult> results = service.applyAll(List.of(
+				request("https://jobs.example.com/a"),
+				request("https://jobs.example.com/b"),
+				request("https://jobs.example.com/c"),
+				request("https://jobs.example.com/c")));
+
+		assertThat(results).extracting(BatchItemResult::outcome)
+				.containsExactly(Outcome.PROMOTED, Outcome.CONFLICT, Outcome.CREATED, Outcome.CONFLICT);
+		assertThat(results.get(1).message()).isEqualTo("Already applied");
+		assertThat(results.get(0).job().getId()).isEqualTo(saved);
+
+		JobApplication promoted = repository.findById(saved).orElseThrow();
+		assertThat(promoted.getStatus()).isEqualTo(ApplicationStatus.APPLIED);
+		assertThat(promoted.getAppliedDate()).isEqualTo(LocalDate.now());
+		assertThat(repository.findAll()).hasSize(3).allMatch(job -> job.getStatus() == ApplicationStatus.APPLIED);
+	}
+
+	@Test
+	void aBatchLargerThanOneLookupChunkStillSeesEveryStoredRow() {
+		List<ApplyJobRequest> requests = IntStream.range(0, 1200)
+				.mapToObj(i -> request("https://jobs.example.com/apply/" + i))
+				.toList();
+		service.saveAll(requests);
+
+		List<BatchItemResult> again = service.saveAll(requests);
+
+		assertThat(again).allMatch(result -> result.outcome() == Outcome.CONFLICT);
+		assertThat(repository.count()).isEqualTo(1200);
+	}
+
+	private JobApplication store(String applyUrl, ApplicationStatus status) {
+		JobApplication job = new JobApplication();
+		job.setCompany("Acme");
+		job.setPosition("Engineer");
+		job.setApplyUrl(applyUrl);
+		job.setStatus(status);
+		return repository.save(job);
+	}
+
+	private static ApplyJobRequest request(String applyUrl) {
+		return new ApplyJobRequest("Engineer", "Acme", "Seattle, WA, US", applyUrl, null, null);
+	}
+}
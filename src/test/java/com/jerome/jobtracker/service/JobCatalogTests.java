@@ -0,0 +1,112 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.TestDatabase;
+import com.jerome.jobtracker.dto.ExternalJobDto;
+import com.jerome.jobtracker.repository.JobCatalogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"external.jsearch.catalog.page-size=3", "external.jsearch.catalog.max-age=6h"})
+class JobCatalogTests {
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private JobCatalog catalog;
+
+	@Autowired
+	private JobCatalogRepository repository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void clear() {
+		jdbcTemplate.update("delete from job_catalog");
+	}
+
+	@Test
+	void aFullPageRangeSeenWithinMaxAgeIsAHit() {
+		double hits = lookups("hit");
+		repository.upsert(jobs("Java Developer", "Seattle, WA", 6), System.currentTimeMillis());
+
+		List<ExternalJobDto> secondPage = catalog.find("java", "seattle", false, false, 2, 1).join();
+
+		assertThat(secondPage).hasSize(3);
+		assertThat(catalog.find("java", null, false, false, 1, 2).join()).hasSize(6);
+		assertThat(lookups("hit")).isEqualTo(hits + 2);
+	}
+
+	@Test
+	void lessThanTheRequestedRangeIsAMiss() {
+		double misses = lookups("miss");
+		repository.upsert(jobs("Java Developer", "Seattle, WA", 5), System.currentTimeMillis());
+
+		assertThat(catalog.find("java", null, false, false, 1, 2).join()).isNull();
+		assertThat(catalog.find("java", "boston", false, false, 1, 1).join()).isNull();
+		assertThat(lookups("miss")).isEqualTo(misses + 2);
+	}
+
+	@Test
+	void postingsLastSeenBeforeMaxAgeDontCount() {
+		long expired = System.currentTimeMillis() - Duration.ofHours(7).toMillis();
+		repository.upsert(jobs("Java Developer", "Seattle, WA", 3), expired);
+
+		assertThat(catalog.find("java", null, false, false, 1, 1).join()).isNull();
+
+		// Seen again: last_seen moves forward and the same postings count once more
+		repository.upsert(jobs("Java Developer", "Seattle, WA", 3), System.currentTimeMillis());
+		assertThat(catalog.find("java", null, false, false, 1, 1).join()).hasSize(3);
+	}
+
+	@Test
+	void keywordsWithoutWordsAreNotLookedUp() {
+		assertThat(JobCatalog.toMatchExpression(" -- ", null, false, false)).isNull();
+		assertThat(catalog.find("\"*", null, false, false, 1, 1).join()).isNull();
+	}
+
+	@Test
+	void matchExpressionsQuoteEveryWordSoFts5SyntaxStaysLiteral() {
+		assertThat(JobCatalog.toMatchExpression("C++ \"senior\" OR NEAR(dev", "New-York", true, false))
+				.isEqualTo("\"c\"* AND \"senior\"* AND \"or\"* AND \"near\"* AND \"dev\"*"
+						+ " AND location : \"new\"* AND location : \"york\"* AND \"remote\"*");
+		assertThat(JobCatalog.toMatchExpression("java", null, true, true))
+				.isEqualTo("\"java\"* AND (\"remote\"* OR \"hybrid\"*)");
+	}
+
+	@Test
+	void operatorWordsInAKeywordMatchAsPlainWords() {
+		repository.upsert(jobs("Java OR Kotlin Developer", "Seattle, WA", 3), System.currentTimeMillis());
+
+		assertThat(catalog.find("java or kotlin", null, false, false, 1, 1).join()).hasSize(3);
+		assertThat(catalog.find("java NOT kotlin", null, false, false, 1, 1).join()).isNull();
+	}
+
+	private double lookups(String result) {
+		return meterRegistry.get("jsearch.catalog.lookups").tag("result", result).counter().count();
+	}
+
+	private static List<ExternalJobDto> jobs(String title, String location, int count) {
+		return IntStream.range(0, count)
+				.mapToObj(i -> new ExternalJobDto(title, "Company " + i, location, "https://jobs.example.com/apply/" + i))
+				.toList();
+	}
+}
@@ -0,0 +1,149 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.TestDatabase;
+import com.jerome.jobtracker.dto.JobApplicationView;
+import com.jerome.jobtracker.dto.JobChanges;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class JobChangesServiceTests {
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private JobChangesService service;
+
+	@Autowired
+	private JobApplicationRepository repository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void clear() {
+		repository.deleteAll();
+		jdbcTemplate.update("delete from job_application_tombstone");
+		jdbcTemplate.update("update job_change_seq set pruned_through = 0");
+	}
+
+	@Test
+	void pagesMergeUpdatesAndDeletesInVersionOrder() {
+		JobApplication a = save("A");
+		JobApplication b = save("B");
+		long since = service.currentVersion();
+
+		JobApplication c = save("C");
+		repository.deleteById(a.getId());
+		b.setNotes("edited");
+		repository.save(b);
+		repository.deleteById(c.getId());
+
+		List<String> events = new ArrayList<>();
+		List<Long> versions = new ArrayList<>();
+		JobChanges page;
+		do {
+			page = service.changesSince(since, null, 1);
+			assertThat(page.reset()).isFalse();
+			page.upserted().forEach(row -> events.add("upsert " + row.company()));
+			page.deleted().forEach(id -> events.add("delete " + (id.equals(a.getId()) ? "A" : id.equals(c.getId()) ? "C" : id)));
+			versions.add(page.version());
+			since = page.version();
+		} while (page.hasMore());
+
+		// C was inserted and deleted since: only its delete is left to report
+		assertThat(events).containsExactly("delete A", "upsert B", "delete C");
+		assertThat(versions).isSorted().doesNotHaveDuplicates();
+		assertThat(since).isEqualTo(service.currentVersion());
+	}
+
+	@Test
+	void aRecreatedIdIsNoLongerReportedDeleted() {
+		JobApplication a = save("A");
+		long since = service.currentVersion();
+		repository.deleteById(a.getId());
+		jdbcTemplate.update("insert into job_application (id, company, position, status, version) values (?, 'A again', 'Engineer', 'SAVED', 0)",
+				a.getId());
+
+		JobChanges changes = service.changesSince(since, null, null);
+
+		assertThat(changes.deleted()).isEmpty();
+		assertThat(changes.upserted()).extracting(JobApplicationView::company).containsExactly("A again");
+	}
+
+	@Test
+	void sinceZeroIsAResetPagedByIdFromOneSnapshot() {
+		save("A");
+		save("B");
+		save("C");
+		long snapshot = service.currentVersion();
+
+		JobChanges first = service.changesSince(0, null, 2);
+		save("D");
+		JobChanges rest = service.changesSince(first.version(), first.after(), 2);
+		JobChanges delta = service.changesSince(rest.version(), rest.after(), null);
+
+		assertThat(first.reset()).isTrue();
+		assertThat(first.hasMore()).isTrue();
+		assertThat(first.version()).isEqualTo(snapshot);
+		assertThat(first.upserted()).extracting(JobApplicationView::company).containsExactly("A", "B");
+		assertThat(first.after()).isEqualTo(first.upserted().get(1).id());
+		// Rows written mid-reset may show up in a later page, and again in the delta from the snapshot
+		assertThat(rest.reset()).isTrue();
+		assertThat(rest.hasMore()).isFalse();
+		assertThat(rest.after()).isNull();
+		assertThat(rest.version()).isEqualTo(snapshot);
+		assertThat(rest.upserted()).extracting(JobApplicationView::company).containsExactly("C", "D");
+		assertThat(delta.reset()).isFalse();
+		assertThat(delta.upserted()).extracting(JobApplicationView::company).containsExactly("D");
+		assertThat(delta.version()).isEqualTo(service.currentVersion());
+	}
+
+	@Test
+	void aVersionOlderThanThePrunedTombstonesGetsAReset() {
+		JobApplication a = save("A");
+		long stale = service.currentVersion();
+		// B before A's delete: SQLite hands a freed id to the next insert, which would clear A's tombstone
+		save("B");
+		repository.deleteById(a.getId());
+		long recent = service.currentVersion();
+		JobApplication c = save("C");
+		repository.deleteById(c.getId());
+		// Only A's delete is past retention
+		jdbcTemplate.update("update job_application_tombstone set deleted_at = 0 where id = ?", a.getId());
+
+		service.pruneTombstones();
+
+		assertThat(jdbcTemplate.queryForObject("select count(*) from job_application_tombstone", Integer.class)).isEqualTo(1);
+		JobChanges reset = service.changesSince(stale, null, null);
+		assertThat(reset.reset()).isTrue();
+		assertThat(reset.upserted()).extracting(JobApplicationView::company).containsExactly("B");
+		JobChanges delta = service.changesSince(recent, null, null);
+		assertThat(delta.reset()).isFalse();
+		assertThat(delta.deleted()).containsExactly(c.getId());
+	}
+
+	private JobApplication save(String company) {
+		JobApplication job = new JobApplication();
+		job.setCompany(company);
+		job.setPosition("Engineer");
+		job.setStatus(ApplicationStatus.SAVED);
+		return repository.save(job);
+	}
+}
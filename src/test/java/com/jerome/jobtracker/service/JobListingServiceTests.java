@@ -0,0 +1,146 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.TestDatabase;
+import com.jerome.jobtracker.dto.JobApplicationView;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import com.jerome.jobtracker.repository.JobApplicationSpecs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class JobListingServiceTests {
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private JobListingService service;
+
+	@Autowired
+	private JobApplicationRepository repository;
+
+	@BeforeEach
+	void clear() {
+		repository.deleteAll();
+	}
+
+	@Test
+	void withoutALimitTheFirstPageIsTheDefaultSizeOldestFirst() {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 150; i++) {
+			ids.add(save("Company " + i, ApplicationStatus.SAVED, null).getId());
+		}
+
+		JobListingService.JobPage first = service.list(JobApplicationSpecs.all(), null, null, null);
+		JobListingService.JobPage rest = service.list(JobApplicationSpecs.all(), null, first.nextCursor(), null);
+
+		assertThat(first.items()).extracting(JobApplicationView::id).containsExactlyElementsOf(ids.subList(0, 100));
+		assertThat(rest.items()).extracting(JobApplicationView::id).containsExactlyElementsOf(ids.subList(100, 150));
+		assertThat(rest.nextCursor()).isNull();
+	}
+
+	@Test
+	void sortByIdWithoutALimitIsTheDefaultOrder() {
+		for (int i = 0; i < 5; i++) {
+			save("Company " + i, ApplicationStatus.SAVED, null);
+		}
+
+		JobListingService.JobPage byDefault = service.list(JobApplicationSpecs.all(), null, null, null);
+		JobListingService.JobPage byId = service.list(JobApplicationSpecs.all(), "id", null, null);
+
+		assertThat(byId.items()).isEqualTo(byDefault.items());
+		assertThat(byId.items()).extracting(JobApplicationView::id).isSorted();
+	}
+
+	@Test
+	void cursorPagesWalkEveryRowOldestFirstWithoutRepeats() {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			ids.add(save("Company " + i, ApplicationStatus.SAVED, null).getId());
+		}
+
+		List<Long> seen = new ArrayList<>();
+		List<Integer> sizes = new ArrayList<>();
+		String cursor = null;
+		do {
+			JobListingService.JobPage page = service.list(JobApplicationSpecs.all(), null, cursor, 3);
+			page.items().forEach(view -> seen.add(view.id()));
+			sizes.add(page.items().size());
+			cursor = page.nextCursor();
+		} while (cursor != null);
+
+		assertThat(sizes).containsExactly(3, 3, 1);
+		assertThat(seen).containsExactlyElementsOf(ids);
+	}
+
+	@Test
+	void appliedDatePagesPutUndatedRowsLastAndBreakTiesNewestFirst() {
+		LocalDate day = LocalDate.of(2025, 3, 1);
+		long undated = save("Undated", ApplicationStatus.SAVED, null).getId();
+		long older = save("Older", ApplicationStatus.APPLIED, day.minusDays(1)).getId();
+		long tieFirst = save("Tie 1", ApplicationStatus.APPLIED, day).getId();
+		long tieSecond = save("Tie 2", ApplicationStatus.APPLIED, day).getId();
+		long newest = save("Newest", ApplicationStatus.APPLIED, day.plusDays(1)).getId();
+
+		List<Long> seen = new ArrayList<>();
+		String cursor = null;
+		do {
+			JobListingService.JobPage page = service.list(JobApplicationSpecs.all(), "appliedDate", cursor, 2);
+			page.items().forEach(view -> seen.add(view.id()));
+			cursor = page.nextCursor();
+		} while (cursor != null);
+
+		assertThat(seen).containsExactly(newest, tieSecond, tieFirst, older, undated);
+	}
+
+	@Test
+	void pagesKeepTheFilter() {
+		save("Acme", ApplicationStatus.SAVED, null);
+		long applied = save("Globex", ApplicationStatus.APPLIED, LocalDate.of(2025, 3, 1)).getId();
+
+		JobListingService.JobPage page = service.list(JobApplicationSpecs.statusIs(ApplicationStatus.APPLIED), null, null, 10);
+
+		assertThat(page.items()).extracting(JobApplicationView::id).containsExactly(applied);
+		assertThat(page.nextCursor()).isNull();
+	}
+
+	@Test
+	void aCursorFromAnotherSortOrGarbageIsRefused() {
+		for (int i = 0; i < 3; i++) {
+			save("Company " + i, ApplicationStatus.SAVED, null);
+		}
+		String idCursor = service.list(JobApplicationSpecs.all(), "id", null, 1).nextCursor();
+
+		assertThatThrownBy(() -> service.list(JobApplicationSpecs.all(), "appliedDate", idCursor, 1))
+				.isInstanceOf(ResponseStatusException.class)
+				.hasMessageContaining("Invalid cursor");
+		assertThatThrownBy(() -> service.list(JobApplicationSpecs.all(), null, "not a cursor", 1))
+				.isInstanceOf(ResponseStatusException.class)
+				.hasMessageContaining("Invalid cursor");
+	}
+
+	private JobApplication save(String company, ApplicationStatus status, LocalDate appliedDate) {
+		JobApplication job = new JobApplication();
+		job.setCompany(company);
+		job.setPosition("Software Engineer");
+		job.setStatus(status);
+		job.setAppliedDate(appliedDate);
+		return repository.save(job);
+	}
+}
@@ -0,0 +1,100 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.TestDatabase;
+import com.jerome.jobtracker.dto.JobApplicationView;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class JobSearchServiceTests {
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private JobSearchService service;
+
+	@Autowired
+	private JobApplicationRepository repository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void clear() {
+		repository.deleteAll();
+	}
+
+	@Test
+	void everyWordIsQuotedAndPrefixMatched() {
+		assertThat(JobSearchService.toMatchExpression("Senior Dev")).isEqualTo("\"senior\"* \"dev\"*");
+		assertThat(JobSearchService.toMatchExpression("Café")).isEqualTo("\"café\"*");
+	}
+
+	@Test
+	void fts5SyntaxInTheQueryIsTreatedAsPlainWords() {
+		assertThat(JobSearchService.toMatchExpression("java OR kotlin NOT \"c++\""))
+				.isEqualTo("\"java\"* \"or\"* \"kotlin\"* \"not\"* \"c\"*");
+		assertThat(JobSearchService.toMatchExpression("NEAR(a b) position:dev* ^start"))
+				.isEqualTo("\"near\"* \"a\"* \"b\"* \"position\"* \"dev\"* \"start\"*");
+		assertThat(JobSearchService.toMatchExpression(" \"*():^- ")).isNull();
+		assertThat(JobSearchService.toMatchExpression(null)).isNull();
+	}
+
+	@Test
+	void queriesFullOfOperatorsRunWithoutErrors() {
+		save("Acme", "Java Developer", "Seattle, WA", "Referred by a teammate");
+
+		assertThat(search("\"unbalanced quote")).isEmpty();
+		assertThat(search("java AND")).isEmpty(); // "and" is a required word, not an operator
+		assertThat(search("jav dev*")).extracting(JobApplicationView::company).containsExactly("Acme");
+	}
+
+	@Test
+	void editedTextIsReindexedAndUnchangedTextIsSkipped() {
+		JobApplication job = save("Acme", "Java Developer", "Seattle, WA", null);
+
+		job.setPosition("Kotlin Developer");
+		repository.save(job);
+		assertThat(search("kotlin")).hasSize(1);
+		assertThat(search("java")).isEmpty();
+
+		// Rewrites every indexed column with its own value, as a full-row update does
+		jdbcTemplate.update("update job_application set status = 'APPLIED', company = company, position = position,"
+				+ " location = location, notes = notes where id = ?", job.getId());
+		assertThat(search("kotlin")).hasSize(1);
+		assertThat(jdbcTemplate.queryForObject("select count(*) from job_application_fts where job_application_fts match ?",
+				Integer.class, "\"kotlin\"*")).isEqualTo(1);
+		jdbcTemplate.execute("insert into job_application_fts (job_application_fts) values ('integrity-check')");
+		assertThat(jdbcTemplate.queryForObject("select sql from sqlite_master where name = 'job_application_fts_au'", String.class))
+				.contains("when old.company is not new.company");
+	}
+
+	private List<JobApplicationView> search(String q) {
+		return service.search(q, null, null, null, 50);
+	}
+
+	private JobApplication save(String company, String position, String location, String notes) {
+		JobApplication job = new JobApplication();
+		job.setCompany(company);
+		job.setPosition(position);
+		job.setLocation(location);
+		job.setNotes(notes);
+		job.setStatus(ApplicationStatus.SAVED);
+		return repository.save(job);
+	}
+}
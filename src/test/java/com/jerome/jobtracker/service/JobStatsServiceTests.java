@@ -0,0 +1,110 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.TestDatabase;
+import com.jerome.jobtracker.dto.JobStats;
+import com.jerome.jobtracker.dto.JobStats.Bucket;
+import com.jerome.jobtracker.dto.JobStats.BucketCount;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class JobStatsServiceTests {
+
+	// A Wednesday, so the week bucket starts two days earlier
+	private static final LocalDate DAY = LocalDate.of(2025, 3, 5);
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private JobStatsService service;
+
+	@Autowired
+	private JobApplicationRepository repository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void clear() {
+		repository.deleteAll();
+	}
+
+	@Test
+	void countsFollowInsertsUpdatesAndDeletes() {
+		JobApplication saved = save(ApplicationStatus.SAVED, null);
+		JobApplication applied = save(ApplicationStatus.APPLIED, DAY);
+		save(ApplicationStatus.APPLIED, DAY);
+
+		applied.setStatus(ApplicationStatus.INTERVIEWING);
+		repository.save(applied);
+		repository.deleteById(saved.getId());
+		// Bulk SQL bypasses JPA; the triggers still see it
+		jdbcTemplate.update("update job_application set status = 'REJECTED' where status = 'APPLIED'");
+
+		JobStats stats = service.stats(Bucket.DAY, null, null);
+
+		assertThat(stats.byStatus())
+				.containsEntry(ApplicationStatus.SAVED, 0L)
+				.containsEntry(ApplicationStatus.APPLIED, 0L)
+				.containsEntry(ApplicationStatus.INTERVIEWING, 1L)
+				.containsEntry(ApplicationStatus.REJECTED, 1L);
+		assertThat(stats.total()).isEqualTo(2);
+		assertThat(stats.applied()).containsExactly(new BucketCount(DAY, 2));
+	}
+
+	@Test
+	void appliedDatesGroupIntoWeeksAndMonthsWithinTheRange() {
+		save(ApplicationStatus.APPLIED, DAY);
+		save(ApplicationStatus.APPLIED, DAY.plusDays(4));   // Sunday, same week
+		save(ApplicationStatus.APPLIED, DAY.plusDays(5));   // Monday, next week
+		save(ApplicationStatus.APPLIED, DAY.minusMonths(1));
+		JobApplication moved = save(ApplicationStatus.APPLIED, DAY.minusMonths(2));
+		moved.setAppliedDate(DAY);
+		repository.save(moved);
+
+		assertThat(service.stats(Bucket.WEEK, null, null).applied()).containsExactly(
+				new BucketCount(LocalDate.of(2025, 2, 3), 1),
+				new BucketCount(LocalDate.of(2025, 3, 3), 3),
+				new BucketCount(LocalDate.of(2025, 3, 10), 1));
+		assertThat(service.stats(Bucket.MONTH, DAY, null).applied())
+				.containsExactly(new BucketCount(LocalDate.of(2025, 3, 1), 4));
+		assertThat(service.stats(Bucket.DAY, null, DAY.minusDays(1)).applied())
+				.containsExactly(new BucketCount(DAY.minusMonths(1), 1));
+		assertThat(service.stats(Bucket.DAY, null, null).total()).isEqualTo(5);
+	}
+
+	@Test
+	void rowsWithoutAnAppliedDateOnlyCountByStatus() {
+		save(ApplicationStatus.SAVED, null);
+
+		JobStats stats = service.stats(Bucket.DAY, null, null);
+
+		assertThat(stats.byStatus()).containsEntry(ApplicationStatus.SAVED, 1L);
+		assertThat(stats.applied()).isEqualTo(List.of());
+	}
+
+	private JobApplication save(ApplicationStatus status, LocalDate appliedDate) {
+		JobApplication job = new JobApplication();
+		job.setCompany("Acme");
+		job.setPosition("Engineer");
+		job.setStatus(status);
+		job.setAppliedDate(appliedDate);
+		return repository.save(job);
+	}
+}
@@ -0,0 +1,125 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.TestDatabase;
+import com.jerome.jobtracker.dto.ImportResult;
+import com.jerome.jobtracker.dto.ImportResult.LineError;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// chunk-size 2 so the three rows below span more than one chunk in both directions
+@SpringBootTest(properties = {"jobtracker.transfer.chunk-size=2", "jobtracker.transfer.max-line-length=2000"})
+class JobTransferServiceTests {
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private JobTransferService service;
+
+	@Autowired
+	private JobApplicationRepository repository;
+
+	@BeforeEach
+	void clear() {
+		repository.deleteAll();
+	}
+
+	@Test
+	void plainCsvFieldsAreWrittenAsIs() {
+		assertThat(JobTransferService.csvField("Acme")).isEqualTo("Acme");
+		assertThat(JobTransferService.csvField(LocalDate.of(2025, 1, 31))).isEqualTo("2025-01-31");
+		assertThat(JobTransferService.csvField(null)).isEmpty();
+	}
+
+	@Test
+	void csvFieldsWithSeparatorsQuotesOrLineBreaksAreQuoted() {
+		assertThat(JobTransferService.csvField("Seattle, WA")).isEqualTo("\"Seattle, WA\"");
+		assertThat(JobTransferService.csvField("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+		assertThat(JobTransferService.csvField("line\nbreak")).isEqualTo("\"line\nbreak\"");
+	}
+
+	@Test
+	void anExportImportsBackAsTheSameRows() throws Exception {
+		save("Acme", ApplicationStatus.APPLIED, LocalDate.of(2025, 1, 31), "Referred, \"warm\" intro\r\nFollow up Friday");
+		save("Globex", ApplicationStatus.SAVED, null, null);
+		save("Initech", ApplicationStatus.INTERVIEWING, LocalDate.of(2025, 2, 3), "Café ☕ on-site");
+		List<String> before = rows();
+		byte[] export = export();
+		repository.deleteAll();
+
+		ImportResult result = importBody(new String(export, StandardCharsets.UTF_8));
+
+		assertThat(result).isEqualTo(new ImportResult(3, 0, 0, List.of()));
+		assertThat(rows()).isEqualTo(before);
+	}
+
+	@Test
+	void reImportingSkipsDuplicatesAndReportsBadLinesByNumber() throws Exception {
+		save("Acme", ApplicationStatus.APPLIED, LocalDate.of(2025, 1, 31), null);
+		save("Globex", ApplicationStatus.SAVED, null, null);
+		String export = new String(export(), StandardCharsets.UTF_8);
+		String fresh = "{\"company\":\"Initech\",\"position\":\"Engineer\",\"applyUrl\":\"https://jobs.example.com/initech\"}";
+		String overlong = "{\"company\":\"" + "x".repeat(5000) + "\"}";
+
+		ImportResult result = importBody(export + "\n{not json\n" + overlong + "\r\n" + fresh + "\n" + fresh + "\n");
+
+		assertThat(result.imported()).isEqualTo(1);
+		assertThat(result.duplicates()).isEqualTo(3); // both exported rows, and the second copy of the fresh one
+		assertThat(result.rejected()).isEqualTo(2);
+		assertThat(result.errors()).extracting(LineError::line).containsExactly(4L, 5L);
+		assertThat(result.errors().get(1).message()).isEqualTo("Line is longer than 2000 characters");
+		// A missing status follows the appliedDate, as for rows from older exports
+		assertThat(repository.findAll()).filteredOn(job -> job.getCompany().equals("Initech"))
+				.extracting(JobApplication::getStatus).containsExactly(ApplicationStatus.SAVED);
+	}
+
+	private JobApplication save(String company, ApplicationStatus status, LocalDate appliedDate, String notes) {
+		JobApplication job = new JobApplication();
+		job.setCompany(company);
+		job.setPosition("Software Engineer");
+		job.setStatus(status);
+		job.setAppliedDate(appliedDate);
+		job.setLocation("Seattle, WA, US");
+		job.setApplyUrl("https://jobs.example.com/" + company.toLowerCase());
+		job.setSource("JSEARCH");
+		job.setNotes(notes);
+		return repository.save(job);
+	}
+
+	private byte[] export() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		service.export(JobTransferService.Format.NDJSON, out);
+		return out.toByteArray();
+	}
+
+	private ImportResult importBody(String body) throws Exception {
+		return service.importNdjson(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	// Every exported field except the ids the import hands out anew
+	private List<String> rows() {
+		return repository.findAll(Sort.by("id")).stream()
+				.map(job -> String.join("|", job.getCompany(), job.getPosition(), String.valueOf(job.getStatus()),
+						String.valueOf(job.getAppliedDate()), job.getLocation(), job.getApplyUrl(), job.getSource(),
+						String.valueOf(job.getNotes())))
+				.toList();
+	}
+}
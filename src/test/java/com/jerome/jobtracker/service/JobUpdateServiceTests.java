@@ -0,0 +1,146 @@
+package com.jerome.jobtracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jerome.jobtracker.TestDatabase;
+import com.jerome.jobtracker.dto.BulkJobRequest;
+import com.jerome.jobtracker.model.ApplicationStatus;
+import com.jerome.jobtracker.model.JobApplication;
+import com.jerome.jobtracker.repository.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class JobUpdateServiceTests {
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@Autowired
+	private JobUpdateService service;
+
+	@Autowired
+	private JobApplicationRepository repository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@BeforeEach
+	void clear() {
+		repository.deleteAll();
+	}
+
+	@Test
+	void bulkStatusMovesOnlyOneTwinOfAPosting() {
+		JobApplication applied = save("Acme", ApplicationStatus.APPLIED, "https://jobs.example.com/1");
+		JobApplication saved = save("Acme", ApplicationStatus.SAVED, "https://jobs.example.com/1");
+		JobApplication other = save("Globex", ApplicationStatus.SAVED, "https://jobs.example.com/2");
+
+		int affected = service.updateStatus(new BulkJobRequest(
+				List.of(applied.getId(), saved.getId(), other.getId()), null, ApplicationStatus.REJECTED));
+
+		assertThat(affected).isEqualTo(2);
+		assertThat(status(applied)).isEqualTo(ApplicationStatus.REJECTED);
+		assertThat(status(saved)).isEqualTo(ApplicationStatus.SAVED);
+		assertThat(status(other)).isEqualTo(ApplicationStatus.REJECTED);
+	}
+
+	@Test
+	void bulkStatusSkipsRowsAlreadyThereOrWhoseTwinIs() {
+		JobApplication rejected = save("Acme", ApplicationStatus.REJECTED, "https://jobs.example.com/1");
+		JobApplication twin = save("Acme", ApplicationStatus.SAVED, "https://jobs.example.com/1");
+
+		int affected = service.updateStatus(new BulkJobRequest(null,
+				new BulkJobRequest.Filter(null, "acme", null), ApplicationStatus.REJECTED));
+
+		assertThat(affected).isZero();
+		assertThat(repository.findById(rejected.getId()).orElseThrow().getVersion()).isEqualTo(rejected.getVersion());
+		assertThat(status(twin)).isEqualTo(ApplicationStatus.SAVED);
+	}
+
+	@Test
+	void bulkStatusToAppliedDatesUndatedRowsAndBumpsVersion() {
+		JobApplication job = save("Acme", ApplicationStatus.SAVED, "https://jobs.example.com/1");
+
+		service.updateStatus(new BulkJobRequest(List.of(job.getId()), null, ApplicationStatus.APPLIED));
+
+		JobApplication updated = repository.findById(job.getId()).orElseThrow();
+		assertThat(updated.getAppliedDate()).isEqualTo(LocalDate.now());
+		assertThat(updated.getVersion()).isEqualTo(job.getVersion() + 1);
+	}
+
+	@Test
+	void bulkDeleteRemovesOnlyMatchingRows() {
+		save("Acme", ApplicationStatus.SAVED, "https://jobs.example.com/1");
+		save("Acme Labs", ApplicationStatus.APPLIED, "https://jobs.example.com/2");
+		JobApplication kept = save("Globex", ApplicationStatus.SAVED, "https://jobs.example.com/3");
+
+		int affected = service.delete(new BulkJobRequest(null, new BulkJobRequest.Filter(null, "ACME", null), null));
+
+		assertThat(affected).isEqualTo(2);
+		assertThat(repository.findAll()).extracting(JobApplication::getId).containsExactly(kept.getId());
+	}
+
+	@Test
+	void bulkRequestsNeedASelection() {
+		assertThatThrownBy(() -> service.delete(new BulkJobRequest(List.of(), null, null)))
+				.hasMessageContaining("ids or at least one where condition is required");
+	}
+
+	@Test
+	void patchWritesOnlyTheFieldsSent() {
+		JobApplication job = save("Acme", ApplicationStatus.SAVED, "https://jobs.example.com/1");
+
+		JobApplication patched = service.patch(job.getId(), body("{\"notes\":\"phone screen\",\"id\":999}"));
+
+		assertThat(patched.getId()).isEqualTo(job.getId());
+		assertThat(patched.getNotes()).isEqualTo("phone screen");
+		assertThat(patched.getCompany()).isEqualTo("Acme");
+		assertThat(patched.getStatus()).isEqualTo(ApplicationStatus.SAVED);
+		assertThat(patched.getVersion()).isEqualTo(job.getVersion() + 1);
+	}
+
+	@Test
+	void patchWithAStaleVersionIsRefused() {
+		JobApplication job = save("Acme", ApplicationStatus.SAVED, "https://jobs.example.com/1");
+		service.patch(job.getId(), body("{\"notes\":\"first\",\"version\":" + job.getVersion() + "}"));
+
+		assertThatThrownBy(() -> service.patch(job.getId(), body("{\"notes\":\"second\",\"version\":" + job.getVersion() + "}")))
+				.isInstanceOf(ObjectOptimisticLockingFailureException.class);
+		assertThat(repository.findById(job.getId()).orElseThrow().getNotes()).isEqualTo("first");
+	}
+
+	private JobApplication save(String company, ApplicationStatus status, String applyUrl) {
+		JobApplication job = new JobApplication();
+		job.setCompany(company);
+		job.setPosition("Software Engineer");
+		job.setStatus(status);
+		job.setApplyUrl(applyUrl);
+		return repository.save(job);
+	}
+
+	private ApplicationStatus status(JobApplication job) {
+		return repository.findById(job.getId()).orElseThrow().getStatus();
+	}
+
+	private ObjectNode body(String json) {
+		try {
+			return (ObjectNode) objectMapper.readTree(json);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
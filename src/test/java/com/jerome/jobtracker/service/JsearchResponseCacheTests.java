@@ -0,0 +1,79 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.dto.ExternalJobDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsearchResponseCacheTests {
+
+	private final JsearchResponseCache cache =
+			new JsearchResponseCache(100, Duration.ofMinutes(1), 100, Duration.ofHours(1), new SimpleMeterRegistry());
+
+	@Test
+	void equivalentQueriesShareAnEntry() {
+		AtomicInteger calls = new AtomicInteger();
+		List<ExternalJobDto> jobs = List.of(new ExternalJobDto("Dev", "Acme", "Seattle", "https://acme.example/1"));
+
+		cache.get("Java  Developer ", 1, 1, () -> {
+			calls.incrementAndGet();
+			return CompletableFuture.completedFuture(jobs);
+		}).join();
+		List<ExternalJobDto> second = cache.get("java developer", 1, 1, () -> {
+			calls.incrementAndGet();
+			return CompletableFuture.completedFuture(List.of());
+		}).join();
+
+		assertThat(second).isEqualTo(jobs);
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void concurrentMissesShareOneUpstreamCall() {
+		AtomicInteger calls = new AtomicInteger();
+		CompletableFuture<List<ExternalJobDto>> upstream = new CompletableFuture<>();
+
+		List<CompletableFuture<List<ExternalJobDto>>> results = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			results.add(cache.get("java", 1, 1, () -> {
+				calls.incrementAndGet();
+				return upstream;
+			}));
+		}
+		upstream.complete(List.of());
+
+		results.forEach(CompletableFuture::join);
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void failuresAreNotCached() {
+		AtomicInteger calls = new AtomicInteger();
+		cache.get("java", 1, 1, () -> {
+			calls.incrementAndGet();
+			return CompletableFuture.failedFuture(new RuntimeException("External API error: 500 - boom"));
+		}).exceptionally(ex -> List.of()).join();
+		cache.get("java", 1, 1, () -> {
+			calls.incrementAndGet();
+			return CompletableFuture.completedFuture(List.of());
+		}).join();
+
+		assertThat(calls).hasValue(2);
+	}
+
+	@Test
+	void lastGoodResultIsKeptForStaleFallback() {
+		List<ExternalJobDto> jobs = List.of(new ExternalJobDto("Dev", "Acme", "Seattle", "https://acme.example/1"));
+		cache.get("java", 1, 1, () -> CompletableFuture.completedFuture(jobs)).join();
+
+		assertThat(cache.getStale("Java ", 1, 1)).isEqualTo(jobs);
+		assertThat(cache.getStale("java", 2, 1)).isNull();
+	}
+}
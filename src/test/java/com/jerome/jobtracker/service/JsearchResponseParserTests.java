@@ -0,0 +1,43 @@
+package com.jerome.jobtracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jerome.jobtracker.dto.ExternalJobDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsearchResponseParserTests {
+
+	private final JsearchResponseParser parser = new JsearchResponseParser(new ObjectMapper());
+
+	@Test
+	void mapsJobFieldsAndSkipsEverythingElse() throws Exception {
+		String body = """
+				{"status":"OK","parameters":{"query":"java","page":1},
+				 "data":[
+				   {"job_id":"1","job_title":"Java Developer","employer_name":"Acme",
+				    "job_highlights":{"Qualifications":["Java","SQL"]},"apply_options":[{"apply_link":"x"}],
+				    "job_city":"Seattle","job_state":"WA","job_country":"US",
+				    "job_description":"long text","job_apply_link":"https://acme.example/apply/1"},
+				   {"job_title":"Remote Engineer","employer_name":null,"job_city":null,"job_country":"US"}
+				 ]}
+				""";
+
+		List<ExternalJobDto> jobs = parser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(jobs).containsExactly(
+				new ExternalJobDto("Java Developer", "Acme", "Seattle, WA, US", "https://acme.example/apply/1"),
+				new ExternalJobDto("Remote Engineer", null, "US", null));
+	}
+
+	@Test
+	void missingDataYieldsNoJobs() throws Exception {
+		String body = "{\"status\":\"ERROR\",\"error\":{\"message\":\"quota\"}}";
+
+		assertThat(parser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))).isEmpty();
+	}
+}
@@ -0,0 +1,43 @@
+package com.jerome.jobtracker.service;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsearchUpstreamGuardTests {
+
+	private static JsearchUpstreamGuard guard(int limitForPeriod) {
+		return new JsearchUpstreamGuard(limitForPeriod, Duration.ofMinutes(1), 50, Duration.ofSeconds(5),
+				10, Duration.ofMinutes(1), new SimpleMeterRegistry());
+	}
+
+	@Test
+	void overQuotaIsRejectedWithoutWaiting() {
+		JsearchUpstreamGuard guard = guard(2);
+		guard.onSuccess(guard.acquire());
+		guard.onSuccess(guard.acquire());
+
+		assertThatThrownBy(guard::acquire).isInstanceOf(RequestNotPermitted.class);
+	}
+
+	@Test
+	void upstreamFaultsOpenTheBreakerButBadRequestsDoNot() {
+		JsearchUpstreamGuard guard = guard(100);
+		for (int i = 0; i < 10; i++) {
+			guard.onFailure(guard.acquire(), new JsearchException(400, "External API error: 400 - bad query", null));
+		}
+		assertThatCode(guard::acquire).doesNotThrowAnyException();
+
+		// Window of 10: five 429s on top of five ignored 400s is a 50% failure rate
+		for (int i = 0; i < 5; i++) {
+			guard.onFailure(guard.acquire(), new JsearchException(429, "External API error: 429 - slow down", null));
+		}
+		assertThatThrownBy(guard::acquire).isInstanceOf(CallNotPermittedException.class);
+	}
+}
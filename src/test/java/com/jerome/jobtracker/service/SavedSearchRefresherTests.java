@@ -0,0 +1,134 @@
+package com.jerome.jobtracker.service;
+
+import com.jerome.jobtracker.TestDatabase;
+import com.jerome.jobtracker.dto.ExternalJobDto;
+import com.jerome.jobtracker.dto.ExternalJobResults;
+import com.jerome.jobtracker.model.SavedSearch;
+import com.jerome.jobtracker.model.SavedSearchHit;
+import com.jerome.jobtracker.repository.SavedSearchHitRepository;
+import com.jerome.jobtracker.repository.SavedSearchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest(properties = "jobtracker.saved-search.refresh.enabled=false")
+class SavedSearchRefresherTests {
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+	}
+
+	@MockitoBean
+	private ExternalJobService externalJobService;
+
+	@Autowired
+	private SavedSearchRefresher refresher;
+
+	@Autowired
+	private SavedSearchRepository searchRepository;
+
+	@Autowired
+	private SavedSearchHitRepository hitRepository;
+
+	@BeforeEach
+	void clear() {
+		hitRepository.deleteAll();
+		searchRepository.deleteAll();
+	}
+
+	@Test
+	void onlyPostingsAnEarlierRunHadntSeenAreStored() throws Exception {
+		SavedSearch search = search();
+		upstreamReturns(job("A", "https://jobs.example.com/a"), job("B", "https://jobs.example.com/b"));
+		assertThat(refresh(search).getLastNewCount()).isEqualTo(2);
+
+		// A again with different tracking params, plus one new posting
+		upstreamReturns(job("A", "https://jobs.example.com/a?utm_source=jsearch"), job("C", "https://jobs.example.com/c"));
+		SavedSearch updated = refresh(search);
+
+		assertThat(updated.getLastNewCount()).isEqualTo(1);
+		assertThat(updated.getLastRunAt()).isNotNull();
+		assertThat(hitRepository.findAll()).extracting(SavedSearchHit::getTitle).containsExactlyInAnyOrder("A", "B", "C");
+	}
+
+	@Test
+	void duplicatesWithinOneRunAndPostingsWithoutALinkAreSkipped() throws Exception {
+		SavedSearch search = search();
+		upstreamReturns(job("A", "https://jobs.example.com/a"), job("A twin", "https://jobs.example.com/a"), job("No link", null));
+
+		assertThat(refresh(search).getLastNewCount()).isEqualTo(1);
+		assertThat(hitRepository.findAll()).extracting(SavedSearchHit::getTitle).containsExactly("A");
+	}
+
+	@Test
+	void eachSearchDiffsAgainstItsOwnHits() throws Exception {
+		SavedSearch first = search();
+		SavedSearch second = search();
+		upstreamReturns(job("A", "https://jobs.example.com/a"));
+
+		refresh(first);
+
+		assertThat(refresh(second).getLastNewCount()).isEqualTo(1);
+	}
+
+	@Test
+	void staleResultsAreNotStored() {
+		SavedSearch search = search();
+		given(externalJobService.searchJobsUpstreamV2(anyString(), isNull(), isNull(), isNull(), anyBoolean(), anyBoolean(),
+				anyBoolean(), anyInt(), anyInt(), any()))
+				.willReturn(CompletableFuture.completedFuture(
+						new ExternalJobResults(List.of(job("A", "https://jobs.example.com/a")), true)));
+
+		assertThatThrownBy(() -> refresh(search)).hasCauseInstanceOf(JsearchException.class);
+		assertThat(hitRepository.count()).isZero();
+	}
+
+	@Test
+	void aSearchDeletedMeanwhileCompletesWithNull() throws Exception {
+		SavedSearch search = search();
+		searchRepository.deleteById(search.getId());
+		upstreamReturns(job("A", "https://jobs.example.com/a"));
+
+		assertThat(refresh(search)).isNull();
+		assertThat(hitRepository.count()).isZero();
+	}
+
+	private SavedSearch refresh(SavedSearch search) throws Exception {
+		return refresher.refresh(search).get(10, TimeUnit.SECONDS);
+	}
+
+	private void upstreamReturns(ExternalJobDto... jobs) {
+		given(externalJobService.searchJobsUpstreamV2(anyString(), isNull(), isNull(), isNull(), anyBoolean(), anyBoolean(),
+				anyBoolean(), anyInt(), anyInt(), any()))
+				.willReturn(CompletableFuture.completedFuture(new ExternalJobResults(Arrays.asList(jobs), false)));
+	}
+
+	private SavedSearch search() {
+		SavedSearch search = new SavedSearch();
+		search.setKeyword("java");
+		return searchRepository.save(search);
+	}
+
+	private static ExternalJobDto job(String title, String applyUrl) {
+		return new ExternalJobDto(title, "Acme", "Seattle, WA, US", applyUrl);
+	}
+}
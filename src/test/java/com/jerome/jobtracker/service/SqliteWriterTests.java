@@ -0,0 +1,180 @@
+package com.jerome.jobtracker.service;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqliteWriterTests {
+
+	private static final int WRITES = 8;
+
+	private Path file;
+	private HikariDataSource dataSource;
+	private DataSourceTransactionManager transactionManager;
+	private JdbcTemplate jdbc;
+	private SqliteWriter writer;
+	private ExecutorService callers;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		file = Files.createTempFile("sqlite-writer", ".db");
+		HikariConfig config = new HikariConfig();
+		config.setJdbcUrl("jdbc:sqlite:" + file);
+		config.addDataSourceProperty("journal_mode", "WAL");
+		config.addDataSourceProperty("busy_timeout", "5000");
+		dataSource = new HikariDataSource(config);
+		transactionManager = new DataSourceTransactionManager(dataSource);
+		jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("create table item (name text primary key)");
+		writer = new SqliteWriter(dataSource, transactionManager, true, 64, 1024);
+		callers = Executors.newFixedThreadPool(WRITES + 2);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		callers.shutdownNow();
+		writer.shutdown();
+		dataSource.close();
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(Path.of(file + "-wal"));
+		Files.deleteIfExists(Path.of(file + "-shm"));
+	}
+
+	@Test
+	void writesQueuedDuringACommitShareTheNextTransaction() throws Exception {
+		Set<Object> transactions = ConcurrentHashMap.newKeySet();
+		List<Future<?>> results = new ArrayList<>();
+		CountDownLatch release = blockWriter(results);
+		for (int i = 0; i < WRITES; i++) {
+			String name = "item-" + i;
+			results.add(callers.submit(() -> writer.run(() -> {
+				transactions.add(TransactionSynchronizationManager.getResource(dataSource));
+				insert(name);
+			})));
+		}
+		awaitPending(WRITES);
+		release.countDown();
+		for (Future<?> result : results) {
+			result.get(10, TimeUnit.SECONDS);
+		}
+
+		assertThat(transactions).hasSize(1);
+		assertThat(count()).isEqualTo(WRITES + 1);
+	}
+
+	@Test
+	void aRejectedWriteRollsBackAloneAndTheRestOfTheGroupCommits() throws Exception {
+		AtomicInteger runs = new AtomicInteger();
+		List<Future<?>> results = new ArrayList<>();
+		CountDownLatch release = blockWriter(results);
+		for (int i = 0; i < WRITES; i++) {
+			String name = "item-" + i;
+			results.add(callers.submit(() -> writer.run(() -> {
+				runs.incrementAndGet();
+				insert(name);
+			})));
+		}
+		Future<?> rejected = callers.submit(() -> writer.run(() -> {
+			runs.incrementAndGet();
+			insert("duplicate");
+			throw new ResponseStatusException(HttpStatus.CONFLICT, "duplicate");
+		}));
+		awaitPending(WRITES + 1);
+		release.countDown();
+		for (Future<?> result : results) {
+			result.get(10, TimeUnit.SECONDS);
+		}
+
+		assertThatThrownBy(() -> rejected.get(10, TimeUnit.SECONDS))
+				.hasCauseInstanceOf(ResponseStatusException.class);
+		assertThat(runs).hasValue(WRITES + 1); // no replay
+		assertThat(count()).isEqualTo(WRITES + 1);
+		assertThat(jdbc.queryForObject("select count(*) from item where name = 'duplicate'", Integer.class)).isZero();
+	}
+
+	@Test
+	void aGroupLeftRollbackOnlyIsReplayedOneWriteAtATime() throws Exception {
+		AtomicInteger runs = new AtomicInteger();
+		List<Future<?>> results = new ArrayList<>();
+		CountDownLatch release = blockWriter(results);
+		for (int i = 0; i < WRITES; i++) {
+			String name = "item-" + i;
+			results.add(callers.submit(() -> writer.run(() -> {
+				runs.incrementAndGet();
+				insert(name);
+			})));
+		}
+		// Fails inside a participating transaction, as a @Transactional repository call would
+		Future<?> poisoned = callers.submit(() -> writer.run(() -> new TransactionTemplate(transactionManager)
+				.executeWithoutResult(status -> {
+					throw new IllegalStateException("constraint failed");
+				})));
+		awaitPending(WRITES + 1);
+		release.countDown();
+		for (Future<?> result : results) {
+			result.get(10, TimeUnit.SECONDS);
+		}
+
+		assertThatThrownBy(() -> poisoned.get(10, TimeUnit.SECONDS))
+				.hasCauseInstanceOf(IllegalStateException.class);
+		assertThat(runs).hasValue(2 * WRITES); // once in the group, once on replay
+		assertThat(count()).isEqualTo(WRITES + 1);
+	}
+
+	// Holds the writer thread inside a first write, so the writes queued next are drained as one group
+	private CountDownLatch blockWriter(List<Future<?>> results) throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		results.add(callers.submit(() -> writer.run(() -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			insert("blocker");
+		})));
+		assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+		return release;
+	}
+
+	private void awaitPending(int writes) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (writer.pending() < writes && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(writer.pending()).isEqualTo(writes);
+	}
+
+	private void insert(String name) {
+		jdbc.update("insert into item (name) values (?)", name);
+	}
+
+	private int count() {
+		return jdbc.queryForObject("select count(*) from item", Integer.class);
+	}
+}